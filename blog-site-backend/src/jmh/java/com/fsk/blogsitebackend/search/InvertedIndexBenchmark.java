@@ -0,0 +1,83 @@
+package com.fsk.blogsitebackend.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// BM25 lookup latency of the in-memory search index over a synthetic corpus.
+// mvn -Pjmh test-compile exec:exec -Djmh.args="InvertedIndexBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InvertedIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "java", "spring", "boot", "postgres", "indeks", "sorgu", "performans", "önbellek", "ışık", "güvenlik",
+            "kimlik", "doğrulama", "mimari", "mikroservis", "test", "bellek", "thread", "sanal", "akış", "veri",
+            "yapı", "algoritma", "ağaç", "graf", "hash", "tablo", "kuyruk", "yığın", "sıralama", "arama",
+            "kafka", "redis", "docker", "kubernetes", "bulut", "ölçekleme", "gecikme", "bant", "genişliği", "profil"
+    };
+    private static final String[] TAGS = { "java", "spring", "veritabanı", "devops", "algoritmalar", "mimari" };
+
+    @Param({ "1000", "10000" })
+    private int posts;
+
+    private InvertedIndex index;
+
+    @Setup
+    public void buildIndex() {
+        Random random = new Random(42);
+        index = new InvertedIndex();
+        for (int i = 0; i < posts; i++) {
+            List<String> tags = new ArrayList<>();
+            for (int t = 0; t < 1 + random.nextInt(3); t++) {
+                tags.add(TAGS[random.nextInt(TAGS.length)]);
+            }
+            index.upsert(UUID.randomUUID(), sentence(random, 6), "post-" + i, sentence(random, 40), tags);
+        }
+    }
+
+    @Benchmark
+    public List<InvertedIndex.Hit> singleTerm() {
+        return index.search("performans", 10);
+    }
+
+    @Benchmark
+    public List<InvertedIndex.Hit> twoTerms() {
+        return index.search("spring guvenlik", 10);
+    }
+
+    // The last token is a prefix, as when the user is still typing
+    @Benchmark
+    public List<InvertedIndex.Hit> prefix() {
+        return index.search("postgres ind", 10);
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+}
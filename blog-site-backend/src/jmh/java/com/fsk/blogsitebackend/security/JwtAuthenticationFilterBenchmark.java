@@ -0,0 +1,104 @@
+package com.fsk.blogsitebackend.security;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.fsk.blogsitebackend.entities.User;
+import com.fsk.blogsitebackend.entities.User.UserRole;
+import com.fsk.blogsitebackend.repository.UserRepository;
+import com.fsk.blogsitebackend.repository.projection.UserStatusView;
+
+import jakarta.servlet.FilterChain;
+
+// Filter throughput before and after the claims and user status caches.
+// before: a token without the uid claim, re-parsed on every request (claims cache of size 0) and resolved through
+// UserDetailsService. The stub answers from memory, so the database round trip the real lookup costs is left
+// out and the measured gap is a lower bound.
+// after: a uid token served from the claims cache, with role and account state from a warm UserStatusCache.
+// mvn -Pjmh test-compile exec:exec -Djmh.args="JwtAuthenticationFilterBenchmark"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private JwtAuthenticationFilter beforeFilter;
+    private JwtAuthenticationFilter afterFilter;
+    private MockHttpServletRequest beforeRequest;
+    private MockHttpServletRequest afterRequest;
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @Setup
+    public void setUp() {
+        User user = new User();
+        user.setUsername("alice");
+        user.setRole(UserRole.USER);
+        UUID userId = UUID.randomUUID();
+
+        UserStatusView view = mock(UserStatusView.class);
+        when(view.getUsername()).thenReturn("alice");
+        when(view.getRole()).thenReturn(UserRole.USER);
+        when(view.getEnabled()).thenReturn(true);
+        when(view.getLocked()).thenReturn(false);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findStatusById(userId)).thenReturn(Optional.of(view));
+
+        JwtService uncachedJwtService = new JwtService(SECRET, 3_600_000, 0);
+        beforeFilter = new JwtAuthenticationFilter(uncachedJwtService, username -> user,
+                new UserStatusCache(userRepository, 30, 100), new StreamTicketStore(30, 100));
+        beforeRequest = request(uncachedJwtService.generateToken(user));
+
+        JwtService jwtService = new JwtService(SECRET, 3_600_000, 100);
+        afterFilter = new JwtAuthenticationFilter(jwtService, username -> user,
+                new UserStatusCache(userRepository, 3_600, 100), new StreamTicketStore(30, 100));
+        afterRequest = request(jwtService.generateToken(Map.of(JwtService.CLAIM_USER_ID, userId.toString()), user));
+    }
+
+    @Benchmark
+    public Authentication before() throws Exception {
+        return filter(beforeFilter, beforeRequest);
+    }
+
+    @Benchmark
+    public Authentication after() throws Exception {
+        return filter(afterFilter, afterRequest);
+    }
+
+    private Authentication filter(JwtAuthenticationFilter filter, MockHttpServletRequest request) throws Exception {
+        SecurityContextHolder.clearContext();
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static MockHttpServletRequest request(String jwt) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.addHeader("Authorization", "Bearer " + jwt);
+        return request;
+    }
+}
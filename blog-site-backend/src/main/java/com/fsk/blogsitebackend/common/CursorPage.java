@@ -0,0 +1,15 @@
+package com.fsk.blogsitebackend.common;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Keyset page: no total count, nextCursor is null on the last page
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
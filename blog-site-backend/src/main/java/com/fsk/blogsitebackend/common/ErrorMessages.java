@@ -77,6 +77,9 @@ public class ErrorMessages {
     public static final String DATABASE_ACCESS_ERROR = "An error occurred while accessing the database";
     public static final String DATA_INTEGRITY_VIOLATION = "Data integrity violation";
     public static final String DUPLICATE_SLUG = "Slug already exists";
+    public static final String SLOT_ALREADY_BOOKED = "This slot has just been booked, please pick another one";
+    public static final String BOOKING_HOLD_EXPIRED = "The payment hold for this booking has expired";
+    public static final String AVAILABILITY_STREAM_LIMIT = "Too many availability downloads are running, please try again shortly";
     public static final String NO_USERS_FOUND = "No users available in the system";
     public static final String DUPLICATE_RECORD = "A record with this value already exists";
     public static final String REFERENCED_RECORD_NOT_FOUND = "Referenced record does not exist";
@@ -89,6 +92,7 @@ public class ErrorMessages {
     public static final String VALIDATION_ERROR = "Validation failed";
     public static final String REQUIRED_FIELD_MISSING = "Required field is missing";
     public static final String INVALID_INPUT = "Invalid input provided";
+    public static final String INVALID_CURSOR = "Cursor is malformed, start again without a cursor";
 
     // Security errors
     public static final String ACCESS_DENIED_TITLE = "Access Denied";
@@ -0,0 +1,47 @@
+package com.fsk.blogsitebackend.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.fsk.blogsitebackend.common.exception.InvalidCursorException;
+
+// Opaque position for keyset pagination over (timestamp, id).
+// Clients only ever echo back the nextCursor they received.
+public record KeysetCursor(LocalDateTime timestamp, UUID id) {
+
+    // Sorts after every real row, so the first page goes through the same seek query as the rest
+    public static final KeysetCursor START = new KeysetCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+            new UUID(-1L, -1L));
+
+    // Sorts before every real row, the first position for ascending walks
+    public static final KeysetCursor ORIGIN = new KeysetCursor(LocalDateTime.of(1, 1, 1, 0, 0), new UUID(0L, 0L));
+
+    public static KeysetCursor decode(String cursor) {
+        return decode(cursor, START);
+    }
+
+    public static KeysetCursor decode(String cursor, KeysetCursor first) {
+        if (cursor == null || cursor.isBlank()) {
+            return first;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf('|');
+            if (separator < 0) {
+                throw new InvalidCursorException(cursor);
+            }
+            return new KeysetCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    public String encode() {
+        String raw = timestamp + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,62 @@
+package com.fsk.blogsitebackend.common;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import lombok.Getter;
+
+// Freshness stamp of a resource or collection, built from BaseEntity.version and updatedAt.
+// Collections use row count + sum(version) + max(updatedAt), so inserts, updates and deletes all change it.
+@Getter
+public class ResourceVersion {
+
+    private final long count;
+    private final long versionSum;
+    private final LocalDateTime lastModified;
+    // Extra input for responses that also depend on something other than the rows, e.g. the current date
+    private final String qualifier;
+
+    // Used as a JPQL constructor expression, hence the boxed types
+    public ResourceVersion(Long count, Long versionSum, LocalDateTime lastModified) {
+        this(count, versionSum, lastModified, null);
+    }
+
+    private ResourceVersion(Long count, Long versionSum, LocalDateTime lastModified, String qualifier) {
+        this.count = count == null ? 0 : count;
+        this.versionSum = versionSum == null ? 0 : versionSum;
+        this.lastModified = lastModified;
+        this.qualifier = qualifier;
+    }
+
+    public static ResourceVersion combine(ResourceVersion... versions) {
+        long count = 0;
+        long versionSum = 0;
+        LocalDateTime lastModified = null;
+        for (ResourceVersion version : versions) {
+            count += version.count;
+            versionSum += version.versionSum;
+            if (lastModified == null
+                    || (version.lastModified != null && version.lastModified.isAfter(lastModified))) {
+                lastModified = version.lastModified;
+            }
+        }
+        return new ResourceVersion(count, versionSum, lastModified);
+    }
+
+    public ResourceVersion withQualifier(String qualifier) {
+        return new ResourceVersion(count, versionSum, lastModified, qualifier);
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public String eTag() {
+        String tag = count + "-" + versionSum + "-" + lastModifiedMillis();
+        return "\"" + (qualifier == null ? tag : tag + "-" + qualifier) + "\"";
+    }
+
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
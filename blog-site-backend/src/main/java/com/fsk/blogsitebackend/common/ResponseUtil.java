@@ -1,9 +1,12 @@
 package com.fsk.blogsitebackend.common;
 
 import java.time.LocalDateTime;
+import java.util.function.Supplier;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
 public class ResponseUtil {
 
@@ -45,4 +48,35 @@ public class ResponseUtil {
         return ResponseEntity.status(status).body(response);
     }
 
+    public static <T> ResponseEntity<GenericResponse<T>> errorResponse(String error, String message, T data,
+            HttpStatus status) {
+        GenericResponse<T> response = GenericResponse.<T>builder()
+                .isSuccess(false)
+                .error(error)
+                .message(message)
+                .data(data)
+                .status(status)
+                .timestamp(LocalDateTime.now())
+                .build();
+        return ResponseEntity.status(status).body(response);
+    }
+
+    // Answers 304 before the payload is built when the client's ETag / If-Modified-Since is still current.
+    // checkNotModified also writes the ETag and Last-Modified headers; returning null tells Spring MVC the
+    // response is already complete.
+    public static <T> ResponseEntity<GenericResponse<T>> conditionalResponse(WebRequest request,
+            ResourceVersion version, Supplier<T> data, String message) {
+        if (!version.isEmpty() && request.checkNotModified(version.eTag(), version.lastModifiedMillis())) {
+            return null;
+        }
+        GenericResponse<T> response = GenericResponse.<T>builder()
+                .isSuccess(true)
+                .message(message)
+                .data(data.get())
+                .status(HttpStatus.OK)
+                .timestamp(LocalDateTime.now())
+                .build();
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(response);
+    }
+
 }
@@ -17,6 +17,7 @@ public class SuccessMessages {
     public static final String POST_CREATED = "Post created successfully";
     public static final String POST_UPDATED = "Post updated successfully";
     public static final String POST_DELETED = "Post deleted successfully";
+    public static final String POST_SUGGESTIONS_RETRIEVED = "Post suggestions retrieved successfully";
 
     // Tag messages
     public static final String TAGS_RETRIEVED = "Tags retrieved successfully";
@@ -49,6 +50,7 @@ public class SuccessMessages {
     public static final String COMMENT_CREATED = "Comment created successfully";
     public static final String COMMENT_UPDATED = "Comment updated successfully";
     public static final String COMMENT_DELETED = "Comment deleted successfully";
+    public static final String COMMENT_REPLIES_RETRIEVED = "Comment replies retrieved successfully";
 
     // Social Media messages
     public static final String SOCIAL_MEDIA_RETRIEVED = "Social media links retrieved successfully";
@@ -0,0 +1,14 @@
+package com.fsk.blogsitebackend.common.exception;
+
+import lombok.Getter;
+
+@Getter
+public class AvailabilityStreamLimitException extends RuntimeException {
+
+    private final int limit;
+
+    public AvailabilityStreamLimitException(int limit) {
+        super(String.format("All %d availability streams are in use", limit));
+        this.limit = limit;
+    }
+}
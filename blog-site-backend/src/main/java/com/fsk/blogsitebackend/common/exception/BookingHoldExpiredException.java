@@ -0,0 +1,16 @@
+package com.fsk.blogsitebackend.common.exception;
+
+import java.util.UUID;
+
+import lombok.Getter;
+
+@Getter
+public class BookingHoldExpiredException extends RuntimeException {
+
+    private final UUID bookingId;
+
+    public BookingHoldExpiredException(UUID bookingId) {
+        super(String.format("Booking hold has expired: '%s'", bookingId));
+        this.bookingId = bookingId;
+    }
+}
@@ -1,5 +1,6 @@
 package com.fsk.blogsitebackend.common.exception;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 import io.jsonwebtoken.ExpiredJwtException;
@@ -41,11 +42,41 @@ public class GlobalExceptionHandler {
         return ResponseUtil.errorResponse(e.getMessage(), message, HttpStatus.NOT_FOUND);
     }
 
+    // 404 for a post slug carries the closest existing slugs as "did you mean" suggestions
+    @ExceptionHandler(PostNotFoundException.class)
+    public ResponseEntity<GenericResponse<List<String>>> handlePostNotFoundException(PostNotFoundException e) {
+        return ResponseUtil.errorResponse(ErrorMessages.POST_NOT_FOUND,
+                String.format(ErrorMessages.NO_POST_FOUND_WITH_SLUG, e.getSlug()), e.getSuggestedSlugs(),
+                HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<GenericResponse<Void>> handleInvalidCursorException(InvalidCursorException e) {
+        return ResponseUtil.errorResponse(e.getMessage(), ErrorMessages.INVALID_CURSOR, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(SlugAlreadyExistsException.class)
     public ResponseEntity<GenericResponse<Void>> handleSlugAlreadyExistsException(SlugAlreadyExistsException e) {
         return ResponseUtil.errorResponse(e.getMessage(), ErrorMessages.DUPLICATE_SLUG, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(SlotAlreadyBookedException.class)
+    public ResponseEntity<GenericResponse<Void>> handleSlotAlreadyBookedException(SlotAlreadyBookedException e) {
+        return ResponseUtil.errorResponse(e.getMessage(), ErrorMessages.SLOT_ALREADY_BOOKED, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(BookingHoldExpiredException.class)
+    public ResponseEntity<GenericResponse<Void>> handleBookingHoldExpiredException(BookingHoldExpiredException e) {
+        return ResponseUtil.errorResponse(e.getMessage(), ErrorMessages.BOOKING_HOLD_EXPIRED, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(AvailabilityStreamLimitException.class)
+    public ResponseEntity<GenericResponse<Void>> handleAvailabilityStreamLimitException(
+            AvailabilityStreamLimitException e) {
+        return ResponseUtil.errorResponse(e.getMessage(), ErrorMessages.AVAILABILITY_STREAM_LIMIT,
+                HttpStatus.TOO_MANY_REQUESTS);
+    }
+
     @ExceptionHandler(UserAlreadyExistsException.class)
     public ResponseEntity<GenericResponse<Void>> handleUserAlreadyExistsException(UserAlreadyExistsException e) {
         return ResponseUtil.errorResponse(e.getMessage(), ErrorMessages.USER_ALREADY_EXISTS, HttpStatus.CONFLICT);
@@ -0,0 +1,18 @@
+package com.fsk.blogsitebackend.common.exception;
+
+import java.util.List;
+
+import lombok.Getter;
+
+@Getter
+public class PostNotFoundException extends RuntimeException {
+
+    private final String slug;
+    private final List<String> suggestedSlugs;
+
+    public PostNotFoundException(String slug, List<String> suggestedSlugs) {
+        super(String.format("Post not found with slug: %s", slug));
+        this.slug = slug;
+        this.suggestedSlugs = suggestedSlugs;
+    }
+}
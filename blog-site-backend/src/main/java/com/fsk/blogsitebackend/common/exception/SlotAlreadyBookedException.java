@@ -0,0 +1,16 @@
+package com.fsk.blogsitebackend.common.exception;
+
+import java.util.UUID;
+
+import lombok.Getter;
+
+@Getter
+public class SlotAlreadyBookedException extends RuntimeException {
+
+    private final UUID slotId;
+
+    public SlotAlreadyBookedException(UUID slotId) {
+        super(String.format("Slot is already booked: '%s'", slotId));
+        this.slotId = slotId;
+    }
+}
@@ -6,6 +6,7 @@ import com.fsk.blogsitebackend.dto.about.aboutrequest.ExperienceRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 
@@ -27,9 +28,9 @@ public class AboutController {
     private final AboutService aboutService;
 
     @GetMapping
-    public ResponseEntity<GenericResponse<AboutResponse>> getAboutInfo() {
-        AboutResponse aboutInfo = aboutService.getAboutInfo();
-        return ResponseUtil.successResponse(aboutInfo, SuccessMessages.ABOUT_INFO_RETRIEVED, HttpStatus.OK);
+    public ResponseEntity<GenericResponse<AboutResponse>> getAboutInfo(WebRequest request) {
+        return ResponseUtil.conditionalResponse(request, aboutService.getAboutVersion(), aboutService::getAboutInfo,
+                SuccessMessages.ABOUT_INFO_RETRIEVED);
     }
 
     @PostMapping("/education")
@@ -1,7 +1,5 @@
 package com.fsk.blogsitebackend.controller;
 
-import java.security.Principal;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -18,6 +16,8 @@ import com.fsk.blogsitebackend.dto.user.AuthResponse;
 import com.fsk.blogsitebackend.dto.user.UserResponse;
 import com.fsk.blogsitebackend.dto.user.userrequest.LoginRequest;
 import com.fsk.blogsitebackend.dto.user.userrequest.RegisterRequest;
+import com.fsk.blogsitebackend.security.AuthenticatedUser;
+import com.fsk.blogsitebackend.security.CurrentUser;
 import com.fsk.blogsitebackend.service.AuthService;
 
 import lombok.RequiredArgsConstructor;
@@ -48,8 +48,8 @@ public class AuthController {
         }
 
         @GetMapping("/me")
-        public ResponseEntity<GenericResponse<UserResponse>> getMe(Principal principal) {
-                UserResponse user = authService.getCurrentUser(principal.getName());
+        public ResponseEntity<GenericResponse<UserResponse>> getMe(@CurrentUser AuthenticatedUser currentUser) {
+                UserResponse user = authService.getCurrentUser(currentUser.username());
                 return ResponseUtil.successResponse(user, SuccessMessages.USER_DETAILS_RETRIEVED);
         }
 }
@@ -5,6 +5,7 @@ import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -18,9 +19,7 @@ import com.fsk.blogsitebackend.common.ResponseUtil;
 import com.fsk.blogsitebackend.dto.booking.BookingResponse;
 import com.fsk.blogsitebackend.dto.booking.bookingrequest.CreateBookingRequest;
 import com.fsk.blogsitebackend.dto.booking.bookingrequest.MarkBookingPaidRequest;
-import com.fsk.blogsitebackend.entities.User;
 import com.fsk.blogsitebackend.service.BookingService;
-import com.fsk.blogsitebackend.service.UserService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -31,7 +30,6 @@ import lombok.RequiredArgsConstructor;
 public class BookingController {
 
     private final BookingService bookingService;
-    private final UserService userService;
 
     @PostMapping("/public")
     public ResponseEntity<GenericResponse<BookingResponse>> createBooking(
@@ -40,30 +38,19 @@ public class BookingController {
         return ResponseUtil.successResponse(response, "Booking created. Payment is pending.", HttpStatus.CREATED);
     }
 
+    @PreAuthorize("hasAuthority('ADMIN')")
     @GetMapping("/admin")
-    public ResponseEntity<GenericResponse<List<BookingResponse>>> getAllBookings(java.security.Principal principal) {
-        requireAdmin(principal);
+    public ResponseEntity<GenericResponse<List<BookingResponse>>> getAllBookings() {
         List<BookingResponse> responses = bookingService.getAllBookings();
         return ResponseUtil.successResponse(responses, "Bookings retrieved", HttpStatus.OK);
     }
 
+    @PreAuthorize("hasAuthority('ADMIN')")
     @PatchMapping("/admin/{bookingId}/mark-paid")
     public ResponseEntity<GenericResponse<BookingResponse>> markBookingAsPaid(
             @PathVariable UUID bookingId,
-            @Valid @RequestBody MarkBookingPaidRequest request,
-            java.security.Principal principal) {
-        requireAdmin(principal);
+            @Valid @RequestBody MarkBookingPaidRequest request) {
         BookingResponse response = bookingService.markAsPaid(bookingId, request.getPaymentReference());
         return ResponseUtil.successResponse(response, "Booking marked as paid", HttpStatus.OK);
     }
-
-    private void requireAdmin(java.security.Principal principal) {
-        User user = userService.findByUsername(principal.getName())
-                .orElseThrow(() -> new com.fsk.blogsitebackend.common.exception.ResourceNotFoundException(
-                        "User", "username", principal.getName()));
-
-        if (user.getRole() != User.UserRole.ADMIN) {
-            throw new org.springframework.security.access.AccessDeniedException("Only admins can access this endpoint");
-        }
-    }
 }
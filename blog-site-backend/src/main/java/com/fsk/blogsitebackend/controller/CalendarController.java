@@ -5,7 +5,9 @@ import java.util.List;
 import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fsk.blogsitebackend.common.GenericResponse;
 import com.fsk.blogsitebackend.common.ResponseUtil;
@@ -21,9 +24,7 @@ import com.fsk.blogsitebackend.dto.booking.AvailabilitySlotResponse;
 import com.fsk.blogsitebackend.dto.booking.bookingrequest.GenerateAvailabilityRequest;
 import com.fsk.blogsitebackend.dto.booking.bookingrequest.UpdateSlotPriceRequest;
 import com.fsk.blogsitebackend.dto.booking.bookingrequest.UpdateSlotStatusRequest;
-import com.fsk.blogsitebackend.entities.User;
 import com.fsk.blogsitebackend.service.AvailabilityService;
-import com.fsk.blogsitebackend.service.UserService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -34,13 +35,11 @@ import lombok.RequiredArgsConstructor;
 public class CalendarController {
 
     private final AvailabilityService availabilityService;
-    private final UserService userService;
 
+    @PreAuthorize("hasAuthority('ADMIN')")
     @PostMapping("/admin/generate")
     public ResponseEntity<GenericResponse<Integer>> generateSlots(
-            @Valid @RequestBody GenerateAvailabilityRequest request,
-            java.security.Principal principal) {
-        requireAdmin(principal);
+            @Valid @RequestBody GenerateAvailabilityRequest request) {
         int createdCount = availabilityService.generateSlots(request);
         return ResponseUtil.successResponse(createdCount, "Availability slots generated", HttpStatus.CREATED);
     }
@@ -53,33 +52,31 @@ public class CalendarController {
         return ResponseUtil.successResponse(slots, "Availability slots retrieved", HttpStatus.OK);
     }
 
+    // Newline-delimited JSON for long ranges; slots are written as they are read instead of collected first
+    @GetMapping(path = "/public/availability/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPublicAvailability(
+            @RequestParam LocalDateTime from,
+            @RequestParam LocalDateTime to) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(availabilityService.streamPublicAvailability(from, to));
+    }
+
+    @PreAuthorize("hasAuthority('ADMIN')")
     @PatchMapping("/admin/slots/{slotId}/price")
     public ResponseEntity<GenericResponse<AvailabilitySlotResponse>> updateSlotPrice(
             @PathVariable UUID slotId,
-            @Valid @RequestBody UpdateSlotPriceRequest request,
-            java.security.Principal principal) {
-        requireAdmin(principal);
+            @Valid @RequestBody UpdateSlotPriceRequest request) {
         AvailabilitySlotResponse response = availabilityService.updatePrice(slotId, request);
         return ResponseUtil.successResponse(response, "Slot price updated", HttpStatus.OK);
     }
 
+    @PreAuthorize("hasAuthority('ADMIN')")
     @PatchMapping("/admin/slots/{slotId}/status")
     public ResponseEntity<GenericResponse<AvailabilitySlotResponse>> updateSlotStatus(
             @PathVariable UUID slotId,
-            @Valid @RequestBody UpdateSlotStatusRequest request,
-            java.security.Principal principal) {
-        requireAdmin(principal);
+            @Valid @RequestBody UpdateSlotStatusRequest request) {
         AvailabilitySlotResponse response = availabilityService.updateStatus(slotId, request);
         return ResponseUtil.successResponse(response, "Slot status updated", HttpStatus.OK);
     }
-
-    private void requireAdmin(java.security.Principal principal) {
-        User user = userService.findByUsername(principal.getName())
-                .orElseThrow(() -> new com.fsk.blogsitebackend.common.exception.ResourceNotFoundException(
-                        "User", "username", principal.getName()));
-
-        if (user.getRole() != User.UserRole.ADMIN) {
-            throw new org.springframework.security.access.AccessDeniedException("Only admins can access this endpoint");
-        }
-    }
 }
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.fsk.blogsitebackend.common.GenericResponse;
 import com.fsk.blogsitebackend.common.ResponseUtil;
@@ -32,9 +33,9 @@ public class CategoryController {
     private final CategoryService categoryService;
 
     @GetMapping
-    public ResponseEntity<GenericResponse<List<CategoryEntity>>> getAllCategories() {
-        List<CategoryEntity> categories = categoryService.findAll();
-        return ResponseUtil.successResponse(categories, SuccessMessages.CATEGORIES_RETRIEVED, HttpStatus.OK);
+    public ResponseEntity<GenericResponse<List<CategoryEntity>>> getAllCategories(WebRequest request) {
+        return ResponseUtil.conditionalResponse(request, categoryService.getVersion(), categoryService::findAll,
+                SuccessMessages.CATEGORIES_RETRIEVED);
     }
 
     @PostMapping
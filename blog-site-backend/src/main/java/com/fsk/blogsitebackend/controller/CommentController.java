@@ -5,20 +5,24 @@ import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.fsk.blogsitebackend.common.CursorPage;
 import com.fsk.blogsitebackend.common.GenericResponse;
 import com.fsk.blogsitebackend.common.ResponseUtil;
 import com.fsk.blogsitebackend.common.SuccessMessages;
 import com.fsk.blogsitebackend.dto.comment.CommentResponse;
 import com.fsk.blogsitebackend.dto.comment.commentrequest.CreateCommentRequest;
+import com.fsk.blogsitebackend.security.AuthenticatedUser;
+import com.fsk.blogsitebackend.security.CurrentUser;
 import com.fsk.blogsitebackend.service.PostCommentService;
 
 import jakarta.validation.Valid;
@@ -35,8 +39,8 @@ public class CommentController {
     public ResponseEntity<GenericResponse<CommentResponse>> createComment(
             @PathVariable String slug,
             @Valid @RequestBody CreateCommentRequest request,
-            @RequestHeader(value = "X-User-Id", required = false) UUID userId) {
-        CommentResponse comment = commentService.createComment(slug, request, userId);
+            @CurrentUser AuthenticatedUser user) {
+        CommentResponse comment = commentService.createComment(slug, request, user.id());
         return ResponseUtil.successResponse(comment, SuccessMessages.COMMENT_CREATED, HttpStatus.CREATED);
     }
 
@@ -46,12 +50,35 @@ public class CommentController {
         return ResponseUtil.successResponse(comments, SuccessMessages.COMMENTS_RETRIEVED, HttpStatus.OK);
     }
 
+    // Paged threads for large discussions: pass an empty cursor for the first page, then nextCursor
+    @GetMapping(params = "cursor")
+    public ResponseEntity<GenericResponse<CursorPage<CommentResponse>>> getCommentThreads(
+            @PathVariable String slug,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int replies) {
+        CursorPage<CommentResponse> threads = commentService.getCommentThreads(slug, cursor,
+                Math.min(Math.max(size, 1), 100), Math.min(Math.max(replies, 0), 20));
+        return ResponseUtil.successResponse(threads, SuccessMessages.COMMENTS_RETRIEVED, HttpStatus.OK);
+    }
+
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<GenericResponse<CursorPage<CommentResponse>>> getReplies(
+            @PathVariable String slug,
+            @PathVariable UUID commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        CursorPage<CommentResponse> replies = commentService.getReplies(slug, commentId, cursor,
+                Math.min(Math.max(size, 1), 100));
+        return ResponseUtil.successResponse(replies, SuccessMessages.COMMENT_REPLIES_RETRIEVED, HttpStatus.OK);
+    }
+
+    @PreAuthorize("hasAuthority('ADMIN')")
     @DeleteMapping("/{commentId}")
     public ResponseEntity<GenericResponse<Void>> deleteComment(
             @PathVariable String slug,
-            @PathVariable UUID commentId,
-            @RequestHeader("X-User-Id") UUID userId) {
-        commentService.softDeleteComment(commentId, userId);
+            @PathVariable UUID commentId) {
+        commentService.softDeleteComment(commentId);
         return ResponseUtil.successResponse(null, SuccessMessages.COMMENT_DELETED, HttpStatus.OK);
     }
 }
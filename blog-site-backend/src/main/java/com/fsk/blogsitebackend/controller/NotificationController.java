@@ -1,21 +1,29 @@
 package com.fsk.blogsitebackend.controller;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.fsk.blogsitebackend.common.CursorPage;
 import com.fsk.blogsitebackend.common.GenericResponse;
 import com.fsk.blogsitebackend.dto.user.NotificationResponse;
+import com.fsk.blogsitebackend.security.AuthenticatedUser;
+import com.fsk.blogsitebackend.security.CurrentUser;
+import com.fsk.blogsitebackend.security.StreamTicketStore;
 import com.fsk.blogsitebackend.service.NotificationService;
+import com.fsk.blogsitebackend.service.NotificationStreamHub;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,22 +33,21 @@ import lombok.RequiredArgsConstructor;
 public class NotificationController {
 
         private final NotificationService notificationService;
-        private final com.fsk.blogsitebackend.service.UserService userService;
-
-        private UUID getUserId(java.security.Principal principal) {
-                return userService.findByUsername(principal.getName())
-                                .orElseThrow(() -> new com.fsk.blogsitebackend.common.exception.ResourceNotFoundException(
-                                                "User", "username", principal.getName()))
-                                .getId();
-        }
+        private final NotificationStreamHub notificationStreamHub;
+        private final StreamTicketStore streamTicketStore;
 
+        // Keyset-paged inbox, newest first: omit the cursor for the first page, then pass nextCursor
         @GetMapping
-        public ResponseEntity<GenericResponse<List<NotificationResponse>>> getNotifications(
-                        java.security.Principal principal) {
-                UUID userId = getUserId(principal);
-                List<NotificationResponse> notifications = notificationService.getNotificationsForUser(userId);
-                GenericResponse<List<NotificationResponse>> response = GenericResponse
-                                .<List<NotificationResponse>>builder()
+        public ResponseEntity<GenericResponse<CursorPage<NotificationResponse>>> getNotifications(
+                        @CurrentUser AuthenticatedUser user,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "20") int size,
+                        @RequestParam(defaultValue = "false") boolean unreadOnly) {
+                UUID userId = user.id();
+                CursorPage<NotificationResponse> notifications = notificationService.getNotificationsForUser(userId,
+                                cursor, Math.min(Math.max(size, 1), 100), unreadOnly);
+                GenericResponse<CursorPage<NotificationResponse>> response = GenericResponse
+                                .<CursorPage<NotificationResponse>>builder()
                                 .isSuccess(true)
                                 .message("Notifications retrieved successfully")
                                 .data(notifications)
@@ -51,8 +58,8 @@ public class NotificationController {
         }
 
         @GetMapping("/count")
-        public ResponseEntity<GenericResponse<Long>> getUnreadCount(java.security.Principal principal) {
-                UUID userId = getUserId(principal);
+        public ResponseEntity<GenericResponse<Long>> getUnreadCount(@CurrentUser AuthenticatedUser user) {
+                UUID userId = user.id();
                 long count = notificationService.getUnreadCount(userId);
                 GenericResponse<Long> response = GenericResponse.<Long>builder()
                                 .isSuccess(true)
@@ -64,11 +71,33 @@ public class NotificationController {
                 return ResponseEntity.ok(response);
         }
 
+        // One-time credential for opening the stream: EventSource cannot send headers, and the access token must
+        // not end up in URLs
+        @PostMapping("/stream-ticket")
+        public ResponseEntity<GenericResponse<String>> issueStreamTicket(@CurrentUser AuthenticatedUser user) {
+                GenericResponse<String> response = GenericResponse.<String>builder()
+                                .isSuccess(true)
+                                .message("Stream ticket issued")
+                                .data(streamTicketStore.issue(user.id()))
+                                .status(HttpStatus.OK)
+                                .timestamp(LocalDateTime.now())
+                                .build();
+                return ResponseEntity.ok(response);
+        }
+
+        // Push channel for the notification bell: an "unread-count" event on connect, then "notification" and
+        // "unread-count" events as they are delivered. Opened with ?ticket= from POST /notifications/stream-ticket.
+        @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        public SseEmitter stream(@CurrentUser AuthenticatedUser user) {
+                UUID userId = user.id();
+                return notificationStreamHub.subscribe(userId, notificationService.getUnreadCount(userId));
+        }
+
         @PutMapping("/{id}/read")
         public ResponseEntity<GenericResponse<Void>> markAsRead(
                         @PathVariable UUID id,
-                        java.security.Principal principal) {
-                UUID userId = getUserId(principal);
+                        @CurrentUser AuthenticatedUser user) {
+                UUID userId = user.id();
                 notificationService.markAsRead(id, userId);
                 GenericResponse<Void> response = GenericResponse.<Void>builder()
                                 .isSuccess(true)
@@ -80,8 +109,8 @@ public class NotificationController {
         }
 
         @PutMapping("/read-all")
-        public ResponseEntity<GenericResponse<Void>> markAllAsRead(java.security.Principal principal) {
-                UUID userId = getUserId(principal);
+        public ResponseEntity<GenericResponse<Void>> markAllAsRead(@CurrentUser AuthenticatedUser user) {
+                UUID userId = user.id();
                 notificationService.markAllAsRead(userId);
                 GenericResponse<Void> response = GenericResponse.<Void>builder()
                                 .isSuccess(true)
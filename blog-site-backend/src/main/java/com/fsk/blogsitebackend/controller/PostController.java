@@ -1,5 +1,6 @@
 package com.fsk.blogsitebackend.controller;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -13,12 +14,15 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.fsk.blogsitebackend.common.CursorPage;
 import com.fsk.blogsitebackend.common.GenericResponse;
-import com.fsk.blogsitebackend.common.ErrorMessages;
 import com.fsk.blogsitebackend.common.ResponseUtil;
 import com.fsk.blogsitebackend.common.SuccessMessages;
 import com.fsk.blogsitebackend.dto.post.PostResponse;
+import com.fsk.blogsitebackend.dto.post.PostSuggestionResponse;
+import com.fsk.blogsitebackend.dto.post.PostSummaryResponse;
 import com.fsk.blogsitebackend.dto.post.postrequest.CreatePostRequest;
 import com.fsk.blogsitebackend.service.PostService;
 
@@ -39,27 +43,57 @@ public class PostController {
     }
 
     @GetMapping
-    public ResponseEntity<GenericResponse<Page<PostResponse>>> getAllPosts(
+    public ResponseEntity<GenericResponse<Page<PostSummaryResponse>>> getAllPosts(
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String tag,
             @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
-        Page<PostResponse> posts = postService.getFilteredPosts(category, tag, search, page, size);
+        Page<PostSummaryResponse> posts = postService.getFilteredPostSummaries(category, tag, search, fuzzy,
+                page, size);
         return ResponseUtil.successResponse(posts, SuccessMessages.POSTS_RETRIEVED, HttpStatus.OK);
     }
 
+    // Keyset mode for the chronological listing: pass an empty cursor for the first page, then nextCursor.
+    // Search requests stay on offset paging because they are ordered by relevance.
+    @GetMapping(params = { "cursor", "!search", "!view" })
+    public ResponseEntity<GenericResponse<CursorPage<PostSummaryResponse>>> getPostsByCursor(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String tag,
+            @RequestParam String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        CursorPage<PostSummaryResponse> posts = postService.getPostSummariesAfter(category, tag, cursor,
+                Math.min(Math.max(size, 1), 100));
+        return ResponseUtil.successResponse(posts, SuccessMessages.POSTS_RETRIEVED, HttpStatus.OK);
+    }
+
+    // Opt-in for clients that still need the post body in the listing
+    @GetMapping(params = "view=full")
+    public ResponseEntity<GenericResponse<Page<PostResponse>>> getAllPostsWithContent(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        Page<PostResponse> posts = postService.getFilteredPosts(category, tag, search, fuzzy, page, size);
+        return ResponseUtil.successResponse(posts, SuccessMessages.POSTS_RETRIEVED, HttpStatus.OK);
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<GenericResponse<List<PostSuggestionResponse>>> suggestPosts(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "8") int limit) {
+        List<PostSuggestionResponse> suggestions = postService.suggestPosts(q, Math.min(Math.max(limit, 1), 20));
+        return ResponseUtil.successResponse(suggestions, SuccessMessages.POST_SUGGESTIONS_RETRIEVED, HttpStatus.OK);
+    }
+
     @GetMapping("/{slug}")
-    public ResponseEntity<GenericResponse<PostResponse>> getPostBySlug(@PathVariable String slug) {
-        return postService.findResponseBySlug(slug)
-                .map(post -> ResponseUtil.successResponse(
-                        post,
-                        SuccessMessages.POST_RETRIEVED,
-                        HttpStatus.OK))
-                .orElseGet(() -> ResponseUtil.errorResponse(
-                        ErrorMessages.POST_NOT_FOUND,
-                        String.format(ErrorMessages.NO_POST_FOUND_WITH_SLUG, slug),
-                        HttpStatus.NOT_FOUND));
+    public ResponseEntity<GenericResponse<PostResponse>> getPostBySlug(@PathVariable String slug,
+            WebRequest request) {
+        return ResponseUtil.conditionalResponse(request, postService.recordViewAndGetVersion(slug),
+                () -> postService.getResponseBySlug(slug), SuccessMessages.POST_RETRIEVED);
     }
 
     @PutMapping("/{id}")
@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -25,9 +26,9 @@ public class SocialMediaController {
     private final SocialMediaService socialMediaService;
 
     @GetMapping
-    public ResponseEntity<GenericResponse<List<SocialMediaResponse>>> getActiveSocialMedia() {
-        List<SocialMediaResponse> data = socialMediaService.getActiveSocialMedia();
-        return ResponseUtil.successResponse(data, SuccessMessages.SOCIAL_MEDIA_RETRIEVED, HttpStatus.OK);
+    public ResponseEntity<GenericResponse<List<SocialMediaResponse>>> getActiveSocialMedia(WebRequest request) {
+        return ResponseUtil.conditionalResponse(request, socialMediaService.getVersion(),
+                socialMediaService::getActiveSocialMedia, SuccessMessages.SOCIAL_MEDIA_RETRIEVED);
     }
 
     @GetMapping("/admin")
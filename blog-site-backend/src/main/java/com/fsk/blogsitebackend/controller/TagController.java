@@ -14,6 +14,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.fsk.blogsitebackend.common.GenericResponse;
 import com.fsk.blogsitebackend.common.ResponseUtil;
@@ -32,9 +33,9 @@ public class TagController {
     private final TagService tagService;
 
     @GetMapping
-    public ResponseEntity<GenericResponse<List<TagResponse>>> getAllTags() {
-        List<TagResponse> tags = tagService.findAllResponses();
-        return ResponseUtil.successResponse(tags, SuccessMessages.TAGS_RETRIEVED, HttpStatus.OK);
+    public ResponseEntity<GenericResponse<List<TagResponse>>> getAllTags(WebRequest request) {
+        return ResponseUtil.conditionalResponse(request, tagService.getVersion(), tagService::findAllResponses,
+                SuccessMessages.TAGS_RETRIEVED);
     }
 
     @PostMapping
@@ -14,5 +14,4 @@ public class UserResponse {
     private String fullName;
     private String role;
     private Boolean emailNotificationsEnabled;
-    private Integer unreadNotificationCount;
 }
@@ -24,5 +24,6 @@ public class BookingResponse {
     private BigDecimal amount;
     private String currency;
     private String paymentReference;
+    private LocalDateTime holdExpiresAt;
     private LocalDateTime createdAt;
 }
@@ -2,9 +2,13 @@ package com.fsk.blogsitebackend.dto.booking.bookingrequest;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 
@@ -24,4 +28,12 @@ public class GenerateAvailabilityRequest {
     private BigDecimal price;
 
     private String currency = "TRY";
+
+    @Min(value = 5, message = "Slots must be at least 5 minutes long")
+    @Max(value = 480, message = "Slots must be at most 8 hours long")
+    private Integer slotMinutes = 30;
+
+    // Recurring weekly hours; when empty the whole startAt..endAt range is filled back to back
+    @Valid
+    private List<WeeklyAvailabilityWindow> weeklyTemplate;
 }
@@ -0,0 +1,21 @@
+package com.fsk.blogsitebackend.dto.booking.bookingrequest;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class WeeklyAvailabilityWindow {
+
+    @NotNull(message = "Day of week is required")
+    private DayOfWeek dayOfWeek;
+
+    @NotNull(message = "Window start time is required")
+    private LocalTime startTime;
+
+    // 00:00 means the window runs until midnight
+    @NotNull(message = "Window end time is required")
+    private LocalTime endTime;
+}
@@ -2,6 +2,8 @@ package com.fsk.blogsitebackend.dto.comment;
 
 import com.fsk.blogsitebackend.entities.PostComment;
 import com.fsk.blogsitebackend.entities.User;
+import com.fsk.blogsitebackend.repository.projection.CommentThreadView;
+import com.fsk.blogsitebackend.repository.projection.CommentTreeView;
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -12,10 +14,26 @@ public interface CommentMapper {
 
     @Mapping(target = "parentId", source = "parentComment.id")
     @Mapping(target = "replies", ignore = true)
+    @Mapping(target = "replyCount", ignore = true)
     CommentResponse toResponse(PostComment comment);
 
     CommentResponse.AuthorResponse toAuthorResponse(User user);
 
+    @Mapping(target = "author", source = "view")
+    @Mapping(target = "replies", ignore = true)
+    @Mapping(target = "replyCount", ignore = true)
+    CommentResponse toResponse(CommentTreeView view);
+
+    @Mapping(target = "author", source = "view")
+    @Mapping(target = "replies", ignore = true)
+    CommentResponse toThreadResponse(CommentThreadView view);
+
+    @Mapping(target = "id", source = "authorId")
+    @Mapping(target = "username", source = "authorUsername")
+    @Mapping(target = "fullName", source = "authorFullName")
+    @Mapping(target = "avatarUrl", ignore = true)
+    CommentResponse.AuthorResponse toAuthorResponse(CommentTreeView view);
+
     @BeanMapping(ignoreByDefault = true)
     @Mapping(target = "deletedAt", expression = "java(java.time.LocalDateTime.now())")
     @Mapping(target = "isActive", constant = "false")
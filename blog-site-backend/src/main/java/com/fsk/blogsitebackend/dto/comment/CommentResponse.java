@@ -14,6 +14,7 @@ public class CommentResponse {
     private LocalDateTime createdAt;
     private AuthorResponse author;
     private UUID parentId;
+    private long replyCount;
     private List<CommentResponse> replies = new ArrayList<>();
 
     @Data
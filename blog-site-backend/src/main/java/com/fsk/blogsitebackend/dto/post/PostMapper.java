@@ -4,8 +4,11 @@ import com.fsk.blogsitebackend.dto.post.postrequest.CreatePostRequest;
 import com.fsk.blogsitebackend.entities.PostEntity;
 import com.fsk.blogsitebackend.entities.TagEntity;
 import com.fsk.blogsitebackend.entities.User;
+import com.fsk.blogsitebackend.repository.projection.PostListView;
+import com.fsk.blogsitebackend.search.InvertedIndex;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
@@ -39,4 +42,23 @@ public interface PostMapper {
 
     @Mapping(target = "tags", source = "tagNames")
     PostResponse toResponse(PostEntity post);
+
+    @Mapping(target = "author", source = "view")
+    @Mapping(target = "tags", source = "tags")
+    @Mapping(target = "content", source = "content")
+    PostResponse toResponse(PostListView view, List<String> tags, String content);
+
+    @Mapping(target = "author", source = "view")
+    @Mapping(target = "tags", source = "tags")
+    @Mapping(target = "snippet", source = "snippet")
+    PostSummaryResponse toSummaryResponse(PostListView view, List<String> tags, String snippet);
+
+    @Mapping(target = "id", source = "authorId")
+    @Mapping(target = "username", source = "authorUsername")
+    @Mapping(target = "fullName", source = "authorFullName")
+    @Mapping(target = "avatarUrl", ignore = true)
+    PostResponse.AuthorResponse toAuthorResponse(PostListView view);
+
+    @Mapping(target = "id", source = "postId")
+    PostSuggestionResponse toSuggestionResponse(InvertedIndex.Hit hit);
 }
@@ -0,0 +1,12 @@
+package com.fsk.blogsitebackend.dto.post;
+
+import java.util.UUID;
+
+import lombok.Data;
+
+@Data
+public class PostSuggestionResponse {
+    private UUID id;
+    private String title;
+    private String slug;
+}
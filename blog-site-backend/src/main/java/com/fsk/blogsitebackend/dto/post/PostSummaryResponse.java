@@ -0,0 +1,25 @@
+package com.fsk.blogsitebackend.dto.post;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.fsk.blogsitebackend.entities.PostEntity.PostStatus;
+
+import lombok.Data;
+
+@Data
+public class PostSummaryResponse {
+    private UUID id;
+    private String title;
+    private String slug;
+    private String excerpt;
+    private String featuredImage;
+    private PostStatus status;
+    private LocalDateTime publishedAt;
+    private Long viewCount;
+    private PostResponse.AuthorResponse author;
+    private List<String> tags;
+    // Highlighted match fragment, only set for search results
+    private String snippet;
+}
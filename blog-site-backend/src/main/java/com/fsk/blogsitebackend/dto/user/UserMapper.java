@@ -15,7 +15,6 @@ public interface UserMapper {
     @Mapping(target = "deletedAt", ignore = true)
     @Mapping(target = "isActive", ignore = true)
     @Mapping(target = "role", constant = "USER")
-    @Mapping(target = "unreadNotificationCount", constant = "0")
     @Mapping(target = "enabled", constant = "true")
     @Mapping(target = "locked", constant = "false")
     @Mapping(target = "password", ignore = true)
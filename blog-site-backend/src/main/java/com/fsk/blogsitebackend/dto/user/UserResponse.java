@@ -11,5 +11,4 @@ public class UserResponse {
     private String fullName;
     private String role;
     private Boolean emailNotificationsEnabled;
-    private Integer unreadNotificationCount;
 }
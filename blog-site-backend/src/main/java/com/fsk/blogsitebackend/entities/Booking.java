@@ -1,6 +1,7 @@
 package com.fsk.blogsitebackend.entities;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -20,7 +21,8 @@ import lombok.Setter;
 public class Booking extends BaseEntity {
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "availability_slot_id", nullable = false, unique = true)
+    // Unique among non-cancelled bookings only (uq_bookings_active_slot)
+    @JoinColumn(name = "availability_slot_id", nullable = false)
     private AvailabilitySlot availabilitySlot;
 
     @Column(name = "client_name", nullable = false, length = 120)
@@ -48,6 +50,10 @@ public class Booking extends BaseEntity {
     @Column(name = "currency", nullable = false, length = 3)
     private String currency = "TRY";
 
+    // Until payment arrives the slot is only held; BookingHoldExpiryScheduler cancels the booking after this
+    @Column(name = "hold_expires_at")
+    private LocalDateTime holdExpiresAt;
+
     public enum BookingStatus {
         PENDING_PAYMENT,
         PAID,
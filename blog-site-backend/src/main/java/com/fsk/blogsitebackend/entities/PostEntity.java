@@ -47,7 +47,8 @@ public class PostEntity extends BaseEntity {
     @Column(name = "published_at", nullable = true)
     private LocalDateTime publishedAt;
 
-    @Column(name = "view_count", nullable = false)
+    // Only PostViewCounter writes this column, entity saves must not overwrite flushed counts
+    @Column(name = "view_count", nullable = false, updatable = false)
     private Long viewCount = 0L;
 
     @ManyToMany(fetch = FetchType.LAZY)
@@ -44,9 +44,6 @@ public class User extends BaseEntity implements UserDetails {
     @Column(name = "email_notifications_enabled", nullable = false)
     private Boolean emailNotificationsEnabled = true;
 
-    @Column(name = "unread_notification_count", nullable = false)
-    private Integer unreadNotificationCount = 0;
-
     private Boolean locked = false;
 
     private Boolean enabled = false;
@@ -0,0 +1,17 @@
+package com.fsk.blogsitebackend.event;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Published whenever bookable slots starting on these days may have changed (generated, repriced,
+// toggled, booked or released). AvailabilityIndex reloads the days after commit.
+public record AvailabilityChangedEvent(LocalDate firstDay, LocalDate lastDay) {
+
+    public static AvailabilityChangedEvent between(LocalDateTime from, LocalDateTime to) {
+        return new AvailabilityChangedEvent(from.toLocalDate(), to.toLocalDate());
+    }
+
+    public static AvailabilityChangedEvent at(LocalDateTime startAt) {
+        return between(startAt, startAt);
+    }
+}
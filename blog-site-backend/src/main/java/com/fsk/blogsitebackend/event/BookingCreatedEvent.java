@@ -0,0 +1,7 @@
+package com.fsk.blogsitebackend.event;
+
+import com.fsk.blogsitebackend.entities.Booking;
+
+// Published by BookingService once a slot has been claimed; the owner email goes out only after commit
+public record BookingCreatedEvent(Booking booking) {
+}
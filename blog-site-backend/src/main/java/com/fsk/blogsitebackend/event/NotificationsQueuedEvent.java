@@ -0,0 +1,6 @@
+package com.fsk.blogsitebackend.event;
+
+// Published by NotificationService after writing rows to the notification outbox.
+// Delivered after commit so the dispatcher wakes up as soon as the rows are visible.
+public record NotificationsQueuedEvent(int count) {
+}
@@ -0,0 +1,20 @@
+package com.fsk.blogsitebackend.event;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+// Published by PostService whenever a post is created, updated or deleted.
+// slugs holds every slug the post was reachable under before and after the change.
+public record PostChangedEvent(UUID postId, Set<String> slugs) {
+
+    public static PostChangedEvent of(UUID postId, String... slugs) {
+        Set<String> distinctSlugs = new HashSet<>();
+        for (String slug : slugs) {
+            if (slug != null) {
+                distinctSlugs.add(slug);
+            }
+        }
+        return new PostChangedEvent(postId, Set.copyOf(distinctSlugs));
+    }
+}
@@ -0,0 +1,8 @@
+package com.fsk.blogsitebackend.event;
+
+import java.util.UUID;
+
+// Published by NotificationService when a user's notifications are marked read.
+// Delivered after commit so the pushed count is the committed one.
+public record UnreadCountChangedEvent(UUID userId) {
+}
@@ -0,0 +1,7 @@
+package com.fsk.blogsitebackend.event;
+
+import java.util.UUID;
+
+// Published by UserService whenever a user's role, enabled or locked state may have changed, or the user is deleted
+public record UserChangedEvent(UUID userId) {
+}
@@ -3,16 +3,47 @@ package com.fsk.blogsitebackend.repository;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import com.fsk.blogsitebackend.entities.AvailabilitySlot;
 
-public interface AvailabilitySlotRepository extends JpaRepository<AvailabilitySlot, UUID> {
+import jakarta.persistence.QueryHint;
 
-    boolean existsByStartAtAndEndAt(LocalDateTime startAt, LocalDateTime endAt);
+public interface AvailabilitySlotRepository extends JpaRepository<AvailabilitySlot, UUID> {
 
     List<AvailabilitySlot> findByStartAtBetweenAndIsActiveTrueAndIsBookedFalseOrderByStartAtAsc(
             LocalDateTime from,
             LocalDateTime to);
+
+    // Half-open [from, to) so whole days can be loaded without overlapping their neighbours
+    @Query("SELECT s FROM AvailabilitySlot s WHERE s.startAt >= :from AND s.startAt < :to "
+            + "AND s.isActive = true AND s.isBooked = false ORDER BY s.startAt")
+    List<AvailabilitySlot> findBookableStartingFrom(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Forward-only cursor for the streaming calendar: PostgreSQL fetches STREAM_FETCH_SIZE rows per round trip
+    // (inside a transaction) instead of materializing the whole range. Must be consumed in a transaction.
+    int STREAM_FETCH_SIZE = 500;
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM AvailabilitySlot s WHERE s.startAt >= :from AND s.startAt <= :to AND s.startAt > :now "
+            + "AND s.isActive = true AND s.isBooked = false ORDER BY s.startAt")
+    Stream<AvailabilitySlot> streamBookableBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+            @Param("now") LocalDateTime now);
+
+    // Atomic claim: of any number of concurrent bookings for a slot exactly one sees 1, the rest see 0
+    @Modifying
+    @Query("UPDATE AvailabilitySlot s SET s.isBooked = true, s.version = s.version + 1, s.updatedAt = :now "
+            + "WHERE s.id = :id AND s.isBooked = false AND s.isActive = true AND s.startAt > :now")
+    int claim(@Param("id") UUID id, @Param("now") LocalDateTime now);
 }
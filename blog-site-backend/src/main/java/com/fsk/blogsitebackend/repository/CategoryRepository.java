@@ -3,11 +3,10 @@ package com.fsk.blogsitebackend.repository;
 import java.util.Optional;
 import java.util.UUID;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.fsk.blogsitebackend.entities.CategoryEntity;
 
-public interface CategoryRepository extends JpaRepository<CategoryEntity, UUID> {
+public interface CategoryRepository extends VersionedRepository<CategoryEntity, UUID> {
     
     Optional<CategoryEntity> findByName(String name);
     
@@ -1,8 +1,10 @@
 package com.fsk.blogsitebackend.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -10,17 +12,32 @@ import org.springframework.data.repository.query.Param;
 
 import com.fsk.blogsitebackend.entities.Notification;
 import com.fsk.blogsitebackend.entities.User;
+import com.fsk.blogsitebackend.repository.projection.NotificationView;
 
 public interface NotificationRepository extends JpaRepository<Notification, UUID> {
 
     List<Notification> findByUserOrderByCreatedAtDesc(User user);
 
-    List<Notification> findByUserIdOrderByCreatedAtDesc(UUID userId);
+    String VIEW_SELECT = "SELECT n.id AS id, n.type AS type, n.message AS message, n.isRead AS isRead, "
+            + "n.relatedPostSlug AS relatedPostSlug, n.relatedCommentId AS relatedCommentId, n.createdAt AS createdAt "
+            + "FROM Notification n WHERE n.user.id = :userId";
 
-    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false")
-    long countUnreadByUserId(@Param("userId") UUID userId);
+    // Keyset inbox, newest first: served by idx_notifications_user_created / idx_notifications_user_unread_created
+    String KEYSET_CONDITION = " AND (n.createdAt, n.id) < (:createdAt, :id) ORDER BY n.createdAt DESC, n.id DESC";
+
+    @Query(VIEW_SELECT + KEYSET_CONDITION)
+    List<NotificationView> findViewsBefore(@Param("userId") UUID userId, @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id, Pageable limit);
+
+    @Query(VIEW_SELECT + " AND n.isRead = false" + KEYSET_CONDITION)
+    List<NotificationView> findUnreadViewsBefore(@Param("userId") UUID userId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Pageable limit);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id AND n.user.id = :userId AND n.isRead = false")
+    int markAsReadIfUnread(@Param("id") UUID id, @Param("userId") UUID userId);
 
     @Modifying
-    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId")
-    void markAllAsReadByUserId(@Param("userId") UUID userId);
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllAsReadByUserId(@Param("userId") UUID userId);
 }
@@ -1,11 +1,16 @@
 package com.fsk.blogsitebackend.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.fsk.blogsitebackend.entities.PostComment;
+import com.fsk.blogsitebackend.repository.projection.CommentThreadView;
+import com.fsk.blogsitebackend.repository.projection.CommentTreeView;
 
 public interface PostCommentRepository extends JpaRepository<PostComment, UUID> {
 
@@ -19,4 +24,49 @@ public interface PostCommentRepository extends JpaRepository<PostComment, UUID>
 
     List<PostComment> findByPostIdAndIsActiveTrue(UUID postId); // Only active (not soft-deleted) comments
 
+    // Whole active tree of a post in one query; the parent id comes from the foreign key column, no self-join
+    @Query("SELECT c.id AS id, c.content AS content, c.createdAt AS createdAt, c.parentComment.id AS parentId, "
+            + "a.id AS authorId, a.username AS authorUsername, a.firstName AS authorFirstName, "
+            + "a.lastName AS authorLastName "
+            + "FROM PostComment c JOIN c.author a "
+            + "WHERE c.post.id = :postId AND c.isActive = true ORDER BY c.createdAt")
+    List<CommentTreeView> findTreeViewsByPostId(@Param("postId") UUID postId);
+
+    String NATIVE_THREAD_VIEW_COLUMNS = "c.id AS \"id\", c.content AS \"content\", c.created_at AS \"createdAt\", "
+            + "c.parent_comment_id AS \"parentId\", a.id AS \"authorId\", a.username AS \"authorUsername\", "
+            + "a.first_name AS \"authorFirstName\", a.last_name AS \"authorLastName\", "
+            + "(SELECT COUNT(*) FROM post_comments r WHERE r.parent_comment_id = c.id AND r.is_active = true) "
+            + "AS \"replyCount\"";
+
+    // One page of threads in one statement: the top-level comments before the cursor (newest first) and,
+    // through a LATERAL seek per root, the oldest :replyLimit replies of each. Rows come back oldest first.
+    // Served by idx_post_comments_thread_roots and idx_post_comments_active_replies.
+    @Query(value = "WITH roots AS ("
+            + "SELECT c.id FROM post_comments c "
+            + "WHERE c.post_id = :postId AND c.parent_comment_id IS NULL AND c.is_active = true "
+            + "AND (c.created_at, c.id) < (:createdAt, :id) "
+            + "ORDER BY c.created_at DESC, c.id DESC LIMIT :limit), "
+            + "first_replies AS ("
+            + "SELECT fr.id FROM roots CROSS JOIN LATERAL ("
+            + "SELECT c.id FROM post_comments c WHERE c.parent_comment_id = roots.id AND c.is_active = true "
+            + "ORDER BY c.created_at, c.id LIMIT :replyLimit) fr) "
+            + "SELECT " + NATIVE_THREAD_VIEW_COLUMNS + " FROM post_comments c JOIN users a ON a.id = c.author_id "
+            + "WHERE c.id IN (SELECT id FROM roots UNION ALL SELECT id FROM first_replies) "
+            + "ORDER BY c.created_at, c.id",
+            nativeQuery = true)
+    List<CommentThreadView> findThreadViewsBefore(@Param("postId") UUID postId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, @Param("limit") int limit,
+            @Param("replyLimit") int replyLimit);
+
+    // "Load more replies": direct replies of one comment after the cursor, oldest first
+    @Query(value = "SELECT " + NATIVE_THREAD_VIEW_COLUMNS + " FROM post_comments c JOIN users a ON a.id = c.author_id "
+            + "WHERE c.parent_comment_id = :parentId AND c.is_active = true "
+            + "AND (c.created_at, c.id) > (:createdAt, :id) "
+            + "ORDER BY c.created_at, c.id LIMIT :limit",
+            nativeQuery = true)
+    List<CommentThreadView> findReplyViewsAfter(@Param("parentId") UUID parentId,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, @Param("limit") int limit);
+
+    boolean existsByIdAndPostSlug(UUID id, String postSlug);
+
 }
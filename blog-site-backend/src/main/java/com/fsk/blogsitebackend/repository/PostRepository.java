@@ -1,21 +1,61 @@
 package com.fsk.blogsitebackend.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.fsk.blogsitebackend.entities.PostEntity;
 import com.fsk.blogsitebackend.entities.PostEntity.PostStatus;
+import com.fsk.blogsitebackend.repository.projection.PostContentView;
+import com.fsk.blogsitebackend.repository.projection.PostListView;
+import com.fsk.blogsitebackend.repository.projection.PostSearchView;
+import com.fsk.blogsitebackend.repository.projection.PostSlugView;
+import com.fsk.blogsitebackend.repository.projection.PostTagNameView;
+import com.fsk.blogsitebackend.repository.projection.PostVersionView;
 
 public interface PostRepository extends JpaRepository<PostEntity, UUID> {
 
+    String LIST_VIEW_SELECT = "SELECT p.id AS id, p.title AS title, p.slug AS slug, p.excerpt AS excerpt, "
+            + "p.featuredImage AS featuredImage, p.status AS status, p.publishedAt AS publishedAt, "
+            + "p.viewCount AS viewCount, a.id AS authorId, "
+            + "a.username AS authorUsername, a.firstName AS authorFirstName, a.lastName AS authorLastName "
+            + "FROM PostEntity p JOIN p.author a";
+
+    String NATIVE_LIST_VIEW_COLUMNS = "p.id AS \"id\", p.title AS \"title\", p.slug AS \"slug\", "
+            + "p.excerpt AS \"excerpt\", p.featured_image AS \"featuredImage\", p.status AS \"status\", "
+            + "p.published_at AS \"publishedAt\", p.view_count AS \"viewCount\", a.id AS \"authorId\", "
+            + "a.username AS \"authorUsername\", a.first_name AS \"authorFirstName\", "
+            + "a.last_name AS \"authorLastName\"";
+
+    String SEARCH_VIEW_SELECT = "SELECT " + NATIVE_LIST_VIEW_COLUMNS + ", "
+            + "ts_headline('simple', coalesce(p.excerpt, '') || ' ' || p.content, q.query, "
+            + "'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=20, MinWords=5') AS \"snippet\" "
+            + "FROM posts p JOIN users a ON a.id = p.author_id, websearch_to_tsquery('simple', :query) AS q(query) "
+            + "WHERE p.search_vector @@ q.query";
+
     Optional<PostEntity> findBySlug(String slug);
 
+    @Query("SELECT p.id FROM PostEntity p WHERE p.slug = :slug")
+    Optional<UUID> findIdBySlug(@Param("slug") String slug);
+
+    // One round trip for GET /posts/{slug}: the id to count the view against and every version the response
+    // depends on
+    @Query("SELECT p.id AS id, p.version AS postVersion, p.updatedAt AS postUpdatedAt, "
+            + "COUNT(t) AS tagCount, SUM(t.version) AS tagVersionSum, MAX(t.updatedAt) AS tagsUpdatedAt, "
+            + "a.version AS authorVersion, a.updatedAt AS authorUpdatedAt "
+            + "FROM PostEntity p JOIN p.author a LEFT JOIN p.tags t WHERE p.slug = :slug "
+            + "GROUP BY p.id, p.version, p.updatedAt, a.version, a.updatedAt")
+    Optional<PostVersionView> findVersionViewBySlug(@Param("slug") String slug);
+
     boolean existsBySlug(String slug);
 
     Page<PostEntity> findByStatus(PostStatus status, Pageable pageable);
@@ -29,6 +69,80 @@ public interface PostRepository extends JpaRepository<PostEntity, UUID> {
     @Query("SELECT p FROM PostEntity p JOIN p.tags t WHERE t.slug = :tagSlug")
     Page<PostEntity> findByTagSlug(@Param("tagSlug") String tagSlug, Pageable pageable);
 
-    @Query("SELECT p FROM PostEntity p WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :query, '%'))")
-    Page<PostEntity> searchByTitle(@Param("query") String query, Pageable pageable);
+    // Listing read model: one query for the page, one for the count, tags are loaded per page separately
+    @Query(value = LIST_VIEW_SELECT,
+            countQuery = "SELECT COUNT(p) FROM PostEntity p")
+    Page<PostListView> findListViews(Pageable pageable);
+
+    @Query(LIST_VIEW_SELECT + " WHERE p.id = :id")
+    Optional<PostListView> findListViewById(@Param("id") UUID id);
+
+    @Query(LIST_VIEW_SELECT + " WHERE p.status = :status")
+    List<PostListView> findListViewsByStatus(@Param("status") PostStatus status);
+
+    @Query(value = LIST_VIEW_SELECT + " JOIN p.categories c WHERE c.slug = :categorySlug",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p JOIN p.categories c WHERE c.slug = :categorySlug")
+    Page<PostListView> findListViewsByCategorySlug(@Param("categorySlug") String categorySlug, Pageable pageable);
+
+    @Query(value = LIST_VIEW_SELECT + " JOIN p.tags t WHERE t.slug = :tagSlug",
+            countQuery = "SELECT COUNT(p) FROM PostEntity p JOIN p.tags t WHERE t.slug = :tagSlug")
+    Page<PostListView> findListViewsByTagSlug(@Param("tagSlug") String tagSlug, Pageable pageable);
+
+    // Ranked full-text search; ts_headline is only evaluated for the rows that survive the LIMIT
+    @Query(value = SEARCH_VIEW_SELECT
+            + " ORDER BY ts_rank_cd(p.search_vector, q.query) DESC, p.published_at DESC NULLS LAST, p.id",
+            countQuery = "SELECT COUNT(*) FROM posts p WHERE p.search_vector @@ websearch_to_tsquery('simple', :query)",
+            nativeQuery = true)
+    Page<PostSearchView> searchListViews(@Param("query") String query, Pageable pageable);
+
+    // Typo tolerant title search: word similarity (%>) lets a short query match inside a long title
+    @Query(value = "SELECT " + NATIVE_LIST_VIEW_COLUMNS + " FROM posts p JOIN users a ON a.id = p.author_id "
+            + "WHERE lower(p.title) %> lower(:query) "
+            + "ORDER BY word_similarity(lower(:query), lower(p.title)) DESC, p.published_at DESC NULLS LAST, p.id",
+            countQuery = "SELECT COUNT(*) FROM posts p WHERE lower(p.title) %> lower(:query)",
+            nativeQuery = true)
+    Page<PostListView> fuzzySearchListViewsByTitle(@Param("query") String query, Pageable pageable);
+
+    @Query(value = "SELECT p.slug FROM posts p WHERE p.slug % :slug AND p.status = 'PUBLISHED' "
+            + "ORDER BY similarity(p.slug, :slug) DESC, p.slug LIMIT :limit",
+            nativeQuery = true)
+    List<String> findSimilarSlugs(@Param("slug") String slug, @Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "UPDATE posts SET search_vector = post_search_vector(id) WHERE id = :postId", nativeQuery = true)
+    void refreshSearchVector(@Param("postId") UUID postId);
+
+    // Tag names are part of the document, so renaming a tag re-indexes every post carrying it
+    @Modifying
+    @Query(value = "UPDATE posts SET search_vector = post_search_vector(id) "
+            + "WHERE id IN (SELECT pt.post_id FROM post_tags pt WHERE pt.tag_id = :tagId)", nativeQuery = true)
+    int refreshSearchVectorsByTagId(@Param("tagId") UUID tagId);
+
+    // Keyset listing: seek past (publishedAt, id) instead of OFFSET, no count query.
+    // Unpublished posts sort as KeysetCursor.START's timestamp, i.e. first, as NULLs do in the offset listing.
+    // Served by the expression index idx_posts_listing_key.
+    String KEYSET_SORT_KEY = "COALESCE(p.publishedAt, {ts '9999-12-31 23:59:59'})";
+    String KEYSET_CONDITION = " (" + KEYSET_SORT_KEY + ", p.id) < (:publishedAt, :id)"
+            + " ORDER BY " + KEYSET_SORT_KEY + " DESC, p.id DESC";
+
+    @Query(LIST_VIEW_SELECT + " WHERE" + KEYSET_CONDITION)
+    List<PostListView> findListViewsBefore(@Param("publishedAt") LocalDateTime publishedAt, @Param("id") UUID id,
+            Pageable limit);
+
+    @Query(LIST_VIEW_SELECT + " JOIN p.categories c WHERE c.slug = :categorySlug AND" + KEYSET_CONDITION)
+    List<PostListView> findListViewsByCategorySlugBefore(@Param("categorySlug") String categorySlug,
+            @Param("publishedAt") LocalDateTime publishedAt, @Param("id") UUID id, Pageable limit);
+
+    @Query(LIST_VIEW_SELECT + " JOIN p.tags t WHERE t.slug = :tagSlug AND" + KEYSET_CONDITION)
+    List<PostListView> findListViewsByTagSlugBefore(@Param("tagSlug") String tagSlug,
+            @Param("publishedAt") LocalDateTime publishedAt, @Param("id") UUID id, Pageable limit);
+
+    @Query("SELECT p.id AS postId, t.name AS name FROM PostEntity p JOIN p.tags t WHERE p.id IN :postIds")
+    List<PostTagNameView> findTagNamesByPostIds(@Param("postIds") Collection<UUID> postIds);
+
+    @Query("SELECT p.id AS id, p.slug AS slug FROM PostEntity p JOIN p.tags t WHERE t.id = :tagId")
+    List<PostSlugView> findSlugViewsByTagId(@Param("tagId") UUID tagId);
+
+    @Query("SELECT p.id AS id, p.content AS content FROM PostEntity p WHERE p.id IN :postIds")
+    List<PostContentView> findContentsByPostIds(@Param("postIds") Collection<UUID> postIds);
 }
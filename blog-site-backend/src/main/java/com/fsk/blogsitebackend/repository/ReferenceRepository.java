@@ -1,8 +1,7 @@
 package com.fsk.blogsitebackend.repository;
 
 import java.util.UUID;
-import org.springframework.data.jpa.repository.JpaRepository;
 import com.fsk.blogsitebackend.entities.ReferenceJob;
 
-public interface ReferenceRepository extends JpaRepository<ReferenceJob, UUID> {
+public interface ReferenceRepository extends VersionedRepository<ReferenceJob, UUID> {
 }
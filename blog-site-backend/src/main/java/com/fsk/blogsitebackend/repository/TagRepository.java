@@ -3,11 +3,10 @@ package com.fsk.blogsitebackend.repository;
 import java.util.Optional;
 import java.util.UUID;
 
-import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.fsk.blogsitebackend.entities.TagEntity;
 
-public interface TagRepository extends JpaRepository<TagEntity, UUID> {
+public interface TagRepository extends VersionedRepository<TagEntity, UUID> {
     
     Optional<TagEntity> findByName(String name);
     
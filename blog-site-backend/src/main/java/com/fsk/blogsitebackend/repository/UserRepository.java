@@ -1,15 +1,28 @@
 package com.fsk.blogsitebackend.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.fsk.blogsitebackend.entities.User;
+import com.fsk.blogsitebackend.repository.projection.UserStatusView;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
     
     Optional<User> findByUsername(String username);
+
+    List<User> findByUsernameIn(Collection<String> usernames);
+
+    Optional<User> findFirstByRole(User.UserRole role);
+
+    @Query("SELECT u.username AS username, u.role AS role, u.enabled AS enabled, u.locked AS locked "
+            + "FROM User u WHERE u.id = :id")
+    Optional<UserStatusView> findStatusById(@Param("id") UUID id);
     
     Optional<User> findByEmail(String email);
     
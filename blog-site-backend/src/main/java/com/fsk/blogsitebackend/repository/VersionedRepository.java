@@ -0,0 +1,17 @@
+package com.fsk.blogsitebackend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import com.fsk.blogsitebackend.common.ResourceVersion;
+import com.fsk.blogsitebackend.entities.BaseEntity;
+
+// Repositories whose collections are served with ETags; one aggregate row instead of loading the entities
+@NoRepositoryBean
+public interface VersionedRepository<T extends BaseEntity, ID> extends JpaRepository<T, ID> {
+
+    @Query("SELECT new com.fsk.blogsitebackend.common.ResourceVersion(COUNT(e), SUM(e.version), MAX(e.updatedAt)) "
+            + "FROM #{#entityName} e")
+    ResourceVersion findResourceVersion();
+}
@@ -0,0 +1,7 @@
+package com.fsk.blogsitebackend.repository.projection;
+
+// Thread read model: a comment row plus how many active direct replies it has, so clients know what they can expand
+public interface CommentThreadView extends CommentTreeView {
+
+    Long getReplyCount();
+}
@@ -0,0 +1,34 @@
+package com.fsk.blogsitebackend.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Comment tree read model: comment columns, the parent id as a plain column and the author columns, selected in one query
+public interface CommentTreeView {
+
+    UUID getId();
+
+    String getContent();
+
+    LocalDateTime getCreatedAt();
+
+    UUID getParentId();
+
+    UUID getAuthorId();
+
+    String getAuthorUsername();
+
+    String getAuthorFirstName();
+
+    String getAuthorLastName();
+
+    // Same fallback rules as User.getFullName()
+    default String getAuthorFullName() {
+        String firstName = getAuthorFirstName();
+        String lastName = getAuthorLastName();
+        if (firstName != null && lastName != null) {
+            return firstName + " " + lastName;
+        }
+        return firstName != null ? firstName : (lastName != null ? lastName : getAuthorUsername());
+    }
+}
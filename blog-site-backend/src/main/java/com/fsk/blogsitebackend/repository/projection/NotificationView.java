@@ -0,0 +1,24 @@
+package com.fsk.blogsitebackend.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fsk.blogsitebackend.entities.Notification.NotificationType;
+
+// Inbox read model: notification columns only, the recipient is never loaded
+public interface NotificationView {
+
+    UUID getId();
+
+    NotificationType getType();
+
+    String getMessage();
+
+    Boolean getIsRead();
+
+    String getRelatedPostSlug();
+
+    UUID getRelatedCommentId();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,10 @@
+package com.fsk.blogsitebackend.repository.projection;
+
+import java.util.UUID;
+
+public interface PostContentView {
+
+    UUID getId();
+
+    String getContent();
+}
@@ -0,0 +1,44 @@
+package com.fsk.blogsitebackend.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fsk.blogsitebackend.entities.PostEntity.PostStatus;
+
+// Listing read model: post columns (without the content body) plus the author columns, selected in one query
+public interface PostListView {
+
+    UUID getId();
+
+    String getTitle();
+
+    String getSlug();
+
+    String getExcerpt();
+
+    String getFeaturedImage();
+
+    PostStatus getStatus();
+
+    LocalDateTime getPublishedAt();
+
+    Long getViewCount();
+
+    UUID getAuthorId();
+
+    String getAuthorUsername();
+
+    String getAuthorFirstName();
+
+    String getAuthorLastName();
+
+    // Same fallback rules as User.getFullName()
+    default String getAuthorFullName() {
+        String firstName = getAuthorFirstName();
+        String lastName = getAuthorLastName();
+        if (firstName != null && lastName != null) {
+            return firstName + " " + lastName;
+        }
+        return firstName != null ? firstName : (lastName != null ? lastName : getAuthorUsername());
+    }
+}
@@ -0,0 +1,7 @@
+package com.fsk.blogsitebackend.repository.projection;
+
+// Full-text search hit: listing columns plus a highlighted fragment of the matching text
+public interface PostSearchView extends PostListView {
+
+    String getSnippet();
+}
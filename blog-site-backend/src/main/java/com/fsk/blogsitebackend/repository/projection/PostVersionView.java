@@ -0,0 +1,33 @@
+package com.fsk.blogsitebackend.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.fsk.blogsitebackend.common.ResourceVersion;
+
+// A post's id with the version stamps of everything its response embeds: the post row, its tags and its author
+public interface PostVersionView {
+
+    UUID getId();
+
+    Long getPostVersion();
+
+    LocalDateTime getPostUpdatedAt();
+
+    Long getTagCount();
+
+    Long getTagVersionSum();
+
+    LocalDateTime getTagsUpdatedAt();
+
+    Long getAuthorVersion();
+
+    LocalDateTime getAuthorUpdatedAt();
+
+    default ResourceVersion toResourceVersion() {
+        return ResourceVersion.combine(
+                new ResourceVersion(1L, getPostVersion(), getPostUpdatedAt()),
+                new ResourceVersion(getTagCount(), getTagVersionSum(), getTagsUpdatedAt()),
+                new ResourceVersion(1L, getAuthorVersion(), getAuthorUpdatedAt()));
+    }
+}
@@ -0,0 +1,15 @@
+package com.fsk.blogsitebackend.repository.projection;
+
+import com.fsk.blogsitebackend.entities.User.UserRole;
+
+// Authentication read model: only what decides whether a token's user may act, and as what
+public interface UserStatusView {
+
+    String getUsername();
+
+    UserRole getRole();
+
+    Boolean getEnabled();
+
+    Boolean getLocked();
+}
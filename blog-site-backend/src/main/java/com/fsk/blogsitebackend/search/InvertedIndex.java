@@ -0,0 +1,279 @@
+package com.fsk.blogsitebackend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+// In-memory BM25 index over post title, tags and excerpt.
+// Documents get dense int ids; postings are parallel int arrays (doc id, weighted term frequency).
+// Updates tombstone the old doc id and append a new one, the index compacts itself once half of it is dead.
+public class InvertedIndex {
+
+    static final int TITLE_WEIGHT = 3;
+    static final int TAG_WEIGHT = 2;
+    static final int EXCERPT_WEIGHT = 1;
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+    private final Map<UUID, Integer> docIdByPostId = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+
+    private UUID[] postIds = new UUID[64];
+    private String[] titles = new String[64];
+    private String[] slugs = new String[64];
+    private int[] lengths = new int[64];
+    private int maxDoc;
+    private long liveLength;
+
+    public record Hit(UUID postId, String title, String slug, double score) {
+    }
+
+    public void upsert(UUID postId, String title, String slug, String excerpt, Collection<String> tags) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        int length = addTerms(termFrequencies, title, TITLE_WEIGHT)
+                + addTerms(termFrequencies, excerpt, EXCERPT_WEIGHT);
+        if (tags != null) {
+            for (String tag : tags) {
+                length += addTerms(termFrequencies, tag, TAG_WEIGHT);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+            int docId = maxDoc++;
+            ensureDocCapacity(maxDoc);
+            postIds[docId] = postId;
+            titles[docId] = title;
+            slugs[docId] = slug;
+            lengths[docId] = length;
+            liveLength += length;
+            docIdByPostId.put(postId, docId);
+            termFrequencies.forEach((term, frequency) -> terms.computeIfAbsent(term, t -> new Postings())
+                    .add(docId, frequency));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(UUID postId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIdByPostId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Every query token must match; the last one is treated as a prefix so results follow the user's typing
+    public List<Hit> search(String query, int limit) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int liveDocs = docIdByPostId.size();
+            if (liveDocs == 0) {
+                return List.of();
+            }
+            double averageLength = Math.max(1.0, (double) liveLength / liveDocs);
+            float[] scores = new float[maxDoc];
+            int[] matchedTerms = new int[maxDoc];
+
+            for (int i = 0; i < queryTerms.size(); i++) {
+                String term = queryTerms.get(i);
+                boolean prefix = i == queryTerms.size() - 1;
+                BitSet matchedByTerm = new BitSet(maxDoc);
+                for (Postings postings : expand(term, prefix)) {
+                    // Postings still count tombstoned docs until the next compaction, so clamp df to the live count
+                    int documentFrequency = Math.min(postings.size, liveDocs);
+                    double idf = Math.log(1 + (liveDocs - documentFrequency + 0.5) / (documentFrequency + 0.5));
+                    for (int p = 0; p < postings.size; p++) {
+                        int docId = postings.docIds[p];
+                        if (deleted.get(docId)) {
+                            continue;
+                        }
+                        int frequency = postings.frequencies[p];
+                        double norm = K1 * (1 - B + B * lengths[docId] / averageLength);
+                        scores[docId] += (float) (idf * frequency * (K1 + 1) / (frequency + norm));
+                        matchedByTerm.set(docId);
+                    }
+                }
+                for (int docId = matchedByTerm.nextSetBit(0); docId >= 0; docId = matchedByTerm.nextSetBit(docId + 1)) {
+                    matchedTerms[docId]++;
+                }
+            }
+
+            PriorityQueue<Integer> top = new PriorityQueue<>(limit + 1,
+                    (left, right) -> Float.compare(scores[left], scores[right]));
+            for (int docId = 0; docId < maxDoc; docId++) {
+                if (matchedTerms[docId] == queryTerms.size()) {
+                    top.offer(docId);
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+
+            Hit[] hits = new Hit[top.size()];
+            for (int i = hits.length - 1; i >= 0; i--) {
+                int docId = top.poll();
+                hits[i] = new Hit(postIds[docId], titles[docId], slugs[docId], scores[docId]);
+            }
+            return Arrays.asList(hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        // Turkish dotless/dotted i fold to plain i so "ışık", "Işık" and "isik" all meet
+        String folded = text.replace('ı', 'i').replace('İ', 'i').toLowerCase(Locale.ROOT);
+        String stripped = DIACRITICS.matcher(Normalizer.normalize(folded, Normalizer.Form.NFD)).replaceAll("");
+        List<String> tokens = new ArrayList<>();
+        for (String token : NON_WORD.split(stripped)) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static int addTerms(Map<String, Integer> termFrequencies, String text, int weight) {
+        List<String> tokens = tokenize(text);
+        for (String token : tokens) {
+            termFrequencies.merge(token, weight, Integer::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    private List<Postings> expand(String term, boolean prefix) {
+        if (!prefix) {
+            Postings postings = terms.get(term);
+            return postings == null ? List.of() : List.of(postings);
+        }
+        NavigableMap<String, Postings> matches = terms.subMap(term, true, term + Character.MAX_VALUE, false);
+        List<Postings> expansions = new ArrayList<>(Math.min(matches.size(), MAX_PREFIX_EXPANSIONS));
+        for (Postings postings : matches.values()) {
+            if (expansions.size() == MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            expansions.add(postings);
+        }
+        return expansions;
+    }
+
+    private void removeLocked(UUID postId) {
+        Integer docId = docIdByPostId.remove(postId);
+        if (docId != null) {
+            deleted.set(docId);
+            liveLength -= lengths[docId];
+            titles[docId] = null;
+            slugs[docId] = null;
+        }
+    }
+
+    private void ensureDocCapacity(int capacity) {
+        if (capacity > postIds.length) {
+            int newLength = Math.max(capacity, postIds.length * 2);
+            postIds = Arrays.copyOf(postIds, newLength);
+            titles = Arrays.copyOf(titles, newLength);
+            slugs = Arrays.copyOf(slugs, newLength);
+            lengths = Arrays.copyOf(lengths, newLength);
+        }
+    }
+
+    // Rewrites doc ids densely so dead documents stop costing memory and scan time
+    private void compactIfNeeded() {
+        int dead = deleted.cardinality();
+        if (dead < 32 || dead * 2 < maxDoc) {
+            return;
+        }
+        int[] remap = new int[maxDoc];
+        int next = 0;
+        for (int docId = 0; docId < maxDoc; docId++) {
+            if (deleted.get(docId)) {
+                remap[docId] = -1;
+                continue;
+            }
+            remap[docId] = next;
+            postIds[next] = postIds[docId];
+            titles[next] = titles[docId];
+            slugs[next] = slugs[docId];
+            lengths[next] = lengths[docId];
+            docIdByPostId.put(postIds[next], next);
+            next++;
+        }
+        Arrays.fill(postIds, next, maxDoc, null);
+        Arrays.fill(titles, next, maxDoc, null);
+        Arrays.fill(slugs, next, maxDoc, null);
+        terms.values().removeIf(postings -> postings.remap(remap) == 0);
+        deleted.clear();
+        maxDoc = next;
+    }
+
+    private static final class Postings {
+        private int[] docIds = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        private void add(int docId, int frequency) {
+            if (size == docIds.length) {
+                docIds = Arrays.copyOf(docIds, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            docIds[size] = docId;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        private int remap(int[] remap) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                int docId = remap[docIds[i]];
+                if (docId >= 0) {
+                    docIds[kept] = docId;
+                    frequencies[kept] = frequencies[i];
+                    kept++;
+                }
+            }
+            size = kept;
+            return kept;
+        }
+    }
+}
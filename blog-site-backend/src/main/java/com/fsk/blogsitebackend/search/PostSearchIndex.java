@@ -0,0 +1,103 @@
+package com.fsk.blogsitebackend.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fsk.blogsitebackend.entities.PostEntity.PostStatus;
+import com.fsk.blogsitebackend.event.PostChangedEvent;
+import com.fsk.blogsitebackend.repository.PostRepository;
+import com.fsk.blogsitebackend.repository.projection.PostListView;
+import com.fsk.blogsitebackend.repository.projection.PostTagNameView;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Keeps an InvertedIndex of published posts in memory so typeahead never touches the database
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final int TAG_BATCH_SIZE = 1000;
+
+    private final PostRepository postRepository;
+
+    private volatile InvertedIndex index = new InvertedIndex();
+    // Posts changed while a rebuild is reading, null when none is running; guarded by this
+    private Set<UUID> changedDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        synchronized (this) {
+            changedDuringRebuild = new HashSet<>();
+        }
+        List<PostListView> posts = postRepository.findListViewsByStatus(PostStatus.PUBLISHED);
+        Map<UUID, List<String>> tagNamesByPostId = new HashMap<>();
+        for (int from = 0; from < posts.size(); from += TAG_BATCH_SIZE) {
+            List<UUID> postIds = posts.subList(from, Math.min(from + TAG_BATCH_SIZE, posts.size())).stream()
+                    .map(PostListView::getId)
+                    .toList();
+            for (PostTagNameView tagName : postRepository.findTagNamesByPostIds(postIds)) {
+                tagNamesByPostId.computeIfAbsent(tagName.getPostId(), id -> new ArrayList<>()).add(tagName.getName());
+            }
+        }
+
+        // Build off to the side and swap, readers keep using the old index meanwhile
+        InvertedIndex rebuilt = new InvertedIndex();
+        for (PostListView post : posts) {
+            rebuilt.upsert(post.getId(), post.getTitle(), post.getSlug(), post.getExcerpt(),
+                    tagNamesByPostId.getOrDefault(post.getId(), List.of()));
+        }
+        // Changes committed while the snapshot was read may be missing from it (they went to the old index), so
+        // they are re-read onto the new one; changes after the swap go straight to it
+        Set<UUID> replay;
+        synchronized (this) {
+            replay = changedDuringRebuild;
+            changedDuringRebuild = null;
+            index = rebuilt;
+        }
+        replay.forEach(postId -> apply(rebuilt, postId));
+        log.info("Post search index built with {} published posts", rebuilt.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        InvertedIndex current;
+        synchronized (this) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(event.postId());
+            }
+            current = index;
+        }
+        apply(current, event.postId());
+    }
+
+    public List<InvertedIndex.Hit> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    private void apply(InvertedIndex target, UUID postId) {
+        Optional<PostListView> post = postRepository.findListViewById(postId)
+                .filter(view -> view.getStatus() == PostStatus.PUBLISHED);
+        if (post.isEmpty()) {
+            target.remove(postId);
+            return;
+        }
+        List<String> tagNames = postRepository.findTagNamesByPostIds(List.of(postId)).stream()
+                .map(PostTagNameView::getName)
+                .toList();
+        PostListView view = post.get();
+        target.upsert(view.getId(), view.getTitle(), view.getSlug(), view.getExcerpt(), tagNames);
+    }
+}
@@ -0,0 +1,39 @@
+package com.fsk.blogsitebackend.security;
+
+import java.security.Principal;
+import java.util.UUID;
+
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.AuthenticatedPrincipal;
+import org.springframework.security.core.Authentication;
+
+import com.fsk.blogsitebackend.entities.User;
+import com.fsk.blogsitebackend.entities.User.UserRole;
+
+// Principal built from the JWT claims and the cached user status, so controllers get the id and role
+// of the caller without loading the User entity
+public record AuthenticatedUser(UUID id, String username, UserRole role) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public boolean isAdmin() {
+        return role == UserRole.ADMIN;
+    }
+
+    public static AuthenticatedUser from(Principal principal) {
+        if (principal instanceof Authentication authentication) {
+            Object details = authentication.getPrincipal();
+            if (details instanceof AuthenticatedUser authenticatedUser) {
+                return authenticatedUser;
+            }
+            // Requests authenticated through the UserDetailsService path carry the entity
+            if (details instanceof User user) {
+                return new AuthenticatedUser(user.getId(), user.getUsername(), user.getRole());
+            }
+        }
+        throw new AuthenticationCredentialsNotFoundException("Authentication required");
+    }
+}
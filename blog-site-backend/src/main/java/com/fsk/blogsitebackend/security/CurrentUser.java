@@ -0,0 +1,15 @@
+package com.fsk.blogsitebackend.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Injects the authenticated caller into a controller method, either as an AuthenticatedUser (no query)
+// or as the User entity (loaded at most once per request). Resolved by CurrentUserArgumentResolver.
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+}
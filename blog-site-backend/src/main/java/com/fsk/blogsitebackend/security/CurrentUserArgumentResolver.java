@@ -0,0 +1,61 @@
+package com.fsk.blogsitebackend.security;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.fsk.blogsitebackend.common.exception.ResourceNotFoundException;
+import com.fsk.blogsitebackend.entities.User;
+import com.fsk.blogsitebackend.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    // Request attributes holding the resolved caller, so every @CurrentUser parameter of a request shares one lookup
+    private static final String PRINCIPAL_ATTRIBUTE = CurrentUserArgumentResolver.class.getName() + ".PRINCIPAL";
+    private static final String ENTITY_ATTRIBUTE = CurrentUserArgumentResolver.class.getName() + ".ENTITY";
+
+    private final UserRepository userRepository;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && (parameter.getParameterType() == AuthenticatedUser.class
+                        || parameter.getParameterType() == User.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+            NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        AuthenticatedUser principal = resolvePrincipal(webRequest);
+        if (parameter.getParameterType() == AuthenticatedUser.class) {
+            return principal;
+        }
+
+        User user = (User) webRequest.getAttribute(ENTITY_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (user == null) {
+            user = userRepository.findById(principal.id())
+                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", principal.id()));
+            webRequest.setAttribute(ENTITY_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        }
+        return user;
+    }
+
+    private AuthenticatedUser resolvePrincipal(NativeWebRequest webRequest) {
+        AuthenticatedUser principal = (AuthenticatedUser) webRequest.getAttribute(PRINCIPAL_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        if (principal == null) {
+            principal = AuthenticatedUser.from(SecurityContextHolder.getContext().getAuthentication());
+            webRequest.setAttribute(PRINCIPAL_ATTRIBUTE, principal, RequestAttributes.SCOPE_REQUEST);
+        }
+        return principal;
+    }
+}
@@ -1,9 +1,13 @@
 package com.fsk.blogsitebackend.security;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 import org.jspecify.annotations.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -11,6 +15,7 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,8 +26,15 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    // EventSource cannot set an Authorization header, so this one path also accepts a one-time stream ticket
+    // (never the access token) as a query parameter
+    private static final String STREAM_PATH = "/notifications/stream";
+    private static final String STREAM_TICKET_PARAM = "ticket";
+
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final UserStatusCache userStatusCache;
+    private final StreamTicketStore streamTicketStore;
 
     @org.springframework.beans.factory.annotation.Autowired
     @org.springframework.beans.factory.annotation.Qualifier("handlerExceptionResolver")
@@ -36,24 +48,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             final String jwt;
             final String userEmail;
 
-            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            if (authHeader != null && authHeader.startsWith("Bearer ")) {
+                jwt = authHeader.substring(7);
+            } else if (STREAM_PATH.equals(request.getServletPath())
+                    && request.getParameter(STREAM_TICKET_PARAM) != null) {
+                streamTicketStore.redeem(request.getParameter(STREAM_TICKET_PARAM))
+                        .map(userId -> authenticate(userId, null))
+                        .ifPresent(authToken -> authenticated(request, authToken));
+                filterChain.doFilter(request, response);
+                return;
+            } else {
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            jwt = authHeader.substring(7);
-            userEmail = jwtService.extractUsername(jwt);
+            // Parsed and verified once per request (and served from JwtService's cache for repeat tokens)
+            final Claims claims = jwtService.extractAllClaims(jwt);
+            userEmail = claims.getSubject();
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-                if (jwtService.isTokenValid(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities());
-                    authToken.setDetails(
-                            new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                UsernamePasswordAuthenticationToken authToken = authenticate(claims, userEmail);
+                if (authToken != null) {
+                    authenticated(request, authToken);
                 }
             }
             filterChain.doFilter(request, response);
@@ -61,4 +77,34 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             resolver.resolveException(request, response, null, e);
         }
     }
+
+    private UsernamePasswordAuthenticationToken authenticate(Claims claims, String username) {
+        UUID userId = jwtService.extractUserId(claims);
+        if (userId == null) {
+            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            return jwtService.isTokenValid(claims, userDetails)
+                    ? new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities())
+                    : null;
+        }
+
+        return authenticate(userId, username);
+    }
+
+    // Role and account state come from the status cache rather than the token, so a ban or
+    // demotion takes effect as soon as the entry is evicted. A stream ticket carries no username to check.
+    private UsernamePasswordAuthenticationToken authenticate(UUID userId, String expectedUsername) {
+        Optional<UserStatusCache.UserStatus> status = userStatusCache.get(userId);
+        if (status.isEmpty() || !status.get().isActive()
+                || (expectedUsername != null && !status.get().username().equals(expectedUsername))) {
+            return null;
+        }
+        AuthenticatedUser principal = new AuthenticatedUser(userId, status.get().username(), status.get().role());
+        return new UsernamePasswordAuthenticationToken(principal, null,
+                List.of(new SimpleGrantedAuthority(principal.role().name())));
+    }
+
+    private void authenticated(HttpServletRequest request, UsernamePasswordAuthenticationToken authToken) {
+        authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authToken);
+    }
 }
@@ -0,0 +1,47 @@
+package com.fsk.blogsitebackend.security;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+// One-time tickets for opening the notification stream. EventSource cannot send an Authorization header, so the
+// credential has to travel in the URL, where access and proxy logs and browser history keep it. A ticket only
+// opens the stream, works once and expires within seconds, so a logged one is worthless.
+// In memory like the stream hub itself: a ticket is redeemed by the instance that will hold the stream.
+@Component
+public class StreamTicketStore {
+
+    private static final int TICKET_BYTES = 32;
+
+    private final SecureRandom random = new SecureRandom();
+    private final Cache<String, UUID> tickets;
+
+    public StreamTicketStore(@Value("${application.security.stream-ticket.ttl-seconds:30}") long ttlSeconds,
+            @Value("${application.security.stream-ticket.max-size:10000}") long maxSize) {
+        this.tickets = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public String issue(UUID userId) {
+        byte[] bytes = new byte[TICKET_BYTES];
+        random.nextBytes(bytes);
+        String ticket = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        tickets.put(ticket, userId);
+        return ticket;
+    }
+
+    // Removes the ticket, so a second use (or a replay from a log) finds nothing
+    public Optional<UUID> redeem(String ticket) {
+        return Optional.ofNullable(tickets.asMap().remove(ticket));
+    }
+}
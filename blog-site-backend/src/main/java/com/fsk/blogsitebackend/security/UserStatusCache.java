@@ -0,0 +1,58 @@
+package com.fsk.blogsitebackend.security;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fsk.blogsitebackend.entities.User.UserRole;
+import com.fsk.blogsitebackend.event.UserChangedEvent;
+import com.fsk.blogsitebackend.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+// Short-lived copy of the fields authentication depends on (username, role, enabled, locked).
+// Lets JwtAuthenticationFilter honor bans and role changes without a user query per request;
+// UserService evicts explicitly on change, the TTL bounds anything that slips past.
+@Component
+public class UserStatusCache {
+
+    public record UserStatus(String username, UserRole role, boolean enabled, boolean locked) {
+
+        public boolean isActive() {
+            return enabled && !locked;
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final Cache<UUID, Optional<UserStatus>> statuses;
+
+    public UserStatusCache(UserRepository userRepository,
+            @Value("${application.security.user-status.ttl-seconds:30}") long ttlSeconds,
+            @Value("${application.security.user-status.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.statuses = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    // Empty when the user no longer exists; that answer is cached too
+    public Optional<UserStatus> get(UUID userId) {
+        return statuses.get(userId, id -> userRepository.findStatusById(id)
+                .map(view -> new UserStatus(view.getUsername(), view.getRole(),
+                        Boolean.TRUE.equals(view.getEnabled()), Boolean.TRUE.equals(view.getLocked()))));
+    }
+
+    public void evict(UUID userId) {
+        statuses.invalidate(userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.userId());
+    }
+}
@@ -11,6 +11,7 @@ import com.fsk.blogsitebackend.dto.about.aboutrequest.AboutMeMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fsk.blogsitebackend.common.ResourceVersion;
 import com.fsk.blogsitebackend.common.exception.ResourceNotFoundException;
 import com.fsk.blogsitebackend.dto.about.AboutResponse;
 import com.fsk.blogsitebackend.dto.about.aboutrequest.EducationRequest;
@@ -35,6 +36,16 @@ public class AboutService {
     private final ReferenceRepository referenceRepository;
     private final AboutMeMapper aboutMeMapper;
 
+    // The stats block depends on today's date, so the computed years are part of the version
+    @Transactional(readOnly = true)
+    public ResourceVersion getAboutVersion() {
+        return ResourceVersion.combine(
+                educationRepository.findResourceVersion(),
+                experienceRepository.findResourceVersion(),
+                referenceRepository.findResourceVersion())
+                .withQualifier(String.valueOf(yearsOfExperience()));
+    }
+
     @Transactional(readOnly = true)
     public AboutResponse getAboutInfo() {
         List<Education> eduList = educationRepository.findAll();
@@ -91,8 +102,7 @@ public class AboutService {
     }
 
     private AboutResponse.StatsResponse calculateStats(List<Experience> experiences, List<ReferenceJob> references) {
-        LocalDate startDate = LocalDate.of(2019, 11, 1);
-        int years = Period.between(startDate, LocalDate.now()).getYears();
+        int years = yearsOfExperience();
 
         Set<String> techCount = experiences.stream()
                 .flatMap(e -> e.getTechnologies().stream())
@@ -109,4 +119,9 @@ public class AboutService {
                 .referenceCount(references.size())
                 .build();
     }
+
+    private int yearsOfExperience() {
+        LocalDate startDate = LocalDate.of(2019, 11, 1);
+        return Period.between(startDate, LocalDate.now()).getYears();
+    }
 }
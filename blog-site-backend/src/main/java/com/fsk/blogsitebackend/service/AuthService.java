@@ -1,9 +1,11 @@
 package com.fsk.blogsitebackend.service;
 
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,6 +14,7 @@ import com.fsk.blogsitebackend.dto.user.AuthResponse;
 import com.fsk.blogsitebackend.dto.user.UserResponse;
 import com.fsk.blogsitebackend.dto.user.userrequest.LoginRequest;
 import com.fsk.blogsitebackend.dto.user.userrequest.RegisterRequest;
+import com.fsk.blogsitebackend.entities.User;
 import com.fsk.blogsitebackend.security.JwtService;
 
 import lombok.RequiredArgsConstructor;
@@ -45,11 +48,12 @@ public class AuthService {
     }
 
     public AuthResponse login(LoginRequest request) {
-        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword()));
+        Authentication authentication = authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword()));
 
-        var user = userService.findByUsername(request.getUsername()).orElseThrow(() -> new ResourceNotFoundException("User", "username", request.getUsername()));
+        // The provider already loaded the user to check the password
+        var user = (User) authentication.getPrincipal();
 
-        var jwtToken = jwtService.generateToken(user);
+        var jwtToken = jwtService.generateToken(Map.of(JwtService.CLAIM_USER_ID, user.getId().toString()), user);
         return new AuthResponse(jwtToken);
     }
 
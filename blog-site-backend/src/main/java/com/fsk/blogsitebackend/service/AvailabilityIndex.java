@@ -0,0 +1,126 @@
+package com.fsk.blogsitebackend.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fsk.blogsitebackend.dto.booking.AvailabilitySlotResponse;
+import com.fsk.blogsitebackend.entities.AvailabilitySlot;
+import com.fsk.blogsitebackend.event.AvailabilityChangedEvent;
+import com.fsk.blogsitebackend.repository.AvailabilitySlotRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Bookable slots from today up to the horizon, bucketed by day as ready-made responses, so the public calendar
+// is answered from memory. Days are reloaded from the database after every change that touches them and the
+// whole window is rebuilt periodically (which also rolls it forward). Ranges reaching past the horizon, or
+// queries before the first build, go to the database.
+// Change events are in-process only: with several instances, a change made on another one shows up here after at
+// most one refresh interval. A stale "free" slot is still refused by createBooking, so the window only delays
+// showing new or re-opened slots and hiding taken ones.
+@Slf4j
+@Component
+public class AvailabilityIndex {
+
+    // Immutable once published; readers never lock
+    private record Snapshot(LocalDate firstDay, LocalDate lastDay,
+            NavigableMap<LocalDate, List<AvailabilitySlotResponse>> days) {
+
+        boolean covers(LocalDate from, LocalDate to) {
+            return !from.isBefore(firstDay) && !to.isAfter(lastDay);
+        }
+    }
+
+    private final AvailabilitySlotRepository availabilitySlotRepository;
+    private final int horizonDays;
+
+    private volatile Snapshot snapshot;
+
+    public AvailabilityIndex(AvailabilitySlotRepository availabilitySlotRepository,
+            @Value("${booking.availability.index-days:180}") int horizonDays) {
+        this.availabilitySlotRepository = availabilitySlotRepository;
+        this.horizonDays = horizonDays;
+    }
+
+    // Same contract as the repository query it replaces: active, unbooked slots starting within [from, to]
+    // and still in the future, ordered by start
+    public List<AvailabilitySlotResponse> find(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime effectiveFrom = from.isAfter(now) ? from : now;
+        if (effectiveFrom.isAfter(to)) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+        if (current == null || !current.covers(effectiveFrom.toLocalDate(), to.toLocalDate())) {
+            return availabilitySlotRepository.findByStartAtBetweenAndIsActiveTrueAndIsBookedFalseOrderByStartAtAsc(from, to)
+                    .stream()
+                    .filter(slot -> slot.getStartAt().isAfter(now))
+                    .map(AvailabilityService::toResponse)
+                    .toList();
+        }
+
+        List<AvailabilitySlotResponse> slots = new ArrayList<>();
+        for (List<AvailabilitySlotResponse> day : current.days()
+                .subMap(effectiveFrom.toLocalDate(), true, to.toLocalDate(), true).values()) {
+            for (AvailabilitySlotResponse slot : day) {
+                if (slot.getStartAt().isAfter(now) && !slot.getStartAt().isBefore(from)
+                        && !slot.getStartAt().isAfter(to)) {
+                    slots.add(slot);
+                }
+            }
+        }
+        return slots;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${booking.availability.refresh-interval-ms:30000}",
+            initialDelayString = "${booking.availability.refresh-interval-ms:30000}")
+    public synchronized void rebuild() {
+        LocalDate firstDay = LocalDate.now();
+        LocalDate lastDay = firstDay.plusDays(horizonDays);
+        snapshot = new Snapshot(firstDay, lastDay, load(firstDay, lastDay));
+        log.debug("Availability index rebuilt for {} to {}", firstDay, lastDay);
+    }
+
+    // Synchronized with rebuild so a reload never lands on top of a newer snapshot with older rows
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onAvailabilityChanged(AvailabilityChangedEvent event) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        LocalDate firstDay = event.firstDay().isBefore(current.firstDay()) ? current.firstDay() : event.firstDay();
+        LocalDate lastDay = event.lastDay().isAfter(current.lastDay()) ? current.lastDay() : event.lastDay();
+        if (firstDay.isAfter(lastDay)) {
+            return;
+        }
+
+        NavigableMap<LocalDate, List<AvailabilitySlotResponse>> days = new TreeMap<>(current.days());
+        days.subMap(firstDay, true, lastDay, true).clear();
+        days.putAll(load(firstDay, lastDay));
+        snapshot = new Snapshot(current.firstDay(), current.lastDay(), Collections.unmodifiableNavigableMap(days));
+    }
+
+    private NavigableMap<LocalDate, List<AvailabilitySlotResponse>> load(LocalDate firstDay, LocalDate lastDay) {
+        NavigableMap<LocalDate, List<AvailabilitySlotResponse>> days = new TreeMap<>();
+        List<AvailabilitySlot> slots = availabilitySlotRepository.findBookableStartingFrom(firstDay.atStartOfDay(),
+                lastDay.plusDays(1).atStartOfDay());
+        for (AvailabilitySlot slot : slots) {
+            days.computeIfAbsent(slot.getStartAt().toLocalDate(), day -> new ArrayList<>())
+                    .add(AvailabilityService.toResponse(slot));
+        }
+        days.replaceAll((day, daySlots) -> List.copyOf(daySlots));
+        return Collections.unmodifiableNavigableMap(days);
+    }
+}
@@ -1,69 +1,202 @@
 package com.fsk.blogsitebackend.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fsk.blogsitebackend.common.exception.ResourceNotFoundException;
 import com.fsk.blogsitebackend.dto.booking.AvailabilitySlotResponse;
 import com.fsk.blogsitebackend.dto.booking.bookingrequest.GenerateAvailabilityRequest;
 import com.fsk.blogsitebackend.dto.booking.bookingrequest.UpdateSlotPriceRequest;
 import com.fsk.blogsitebackend.dto.booking.bookingrequest.UpdateSlotStatusRequest;
+import com.fsk.blogsitebackend.dto.booking.bookingrequest.WeeklyAvailabilityWindow;
 import com.fsk.blogsitebackend.entities.AvailabilitySlot;
+import com.fsk.blogsitebackend.event.AvailabilityChangedEvent;
 import com.fsk.blogsitebackend.repository.AvailabilitySlotRepository;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.json.JsonMapper;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class AvailabilityService {
 
-    private static final Duration SLOT_INTERVAL = Duration.ofMinutes(30);
+    private static final int DEFAULT_SLOT_MINUTES = 30;
+    // Enforced by chk_slot_max_length; lets the overlap probe below stay a short index range scan
+    private static final int MAX_SLOT_MINUTES = 480;
+    private static final Duration MAX_GENERATION_RANGE = Duration.ofDays(366);
+
+    // Candidate slot starts for a continuous range, back to back from the range start
+    private static final String CONTINUOUS_STARTS = "SELECT s.start_at FROM generate_series(?::timestamp, "
+            + "?::timestamp - make_interval(mins => ?), make_interval(mins => ?)) AS s(start_at)";
+
+    // Candidate slot starts for a weekly template: every day of the range joined to its windows
+    // (ISO day of week, start time, end time arrays), each window cut into slots of the given length
+    private static final String WEEKLY_STARTS = "SELECT s.start_at "
+            + "FROM generate_series(?::date, ?::date, interval '1 day') AS d(day) "
+            + "JOIN unnest(?::int[], ?::time[], ?::time[]) AS w(dow, start_time, end_time) "
+            + "ON w.dow = extract(isodow FROM d.day) "
+            + "CROSS JOIN LATERAL generate_series(d.day + w.start_time, "
+            + "d.day + w.end_time - make_interval(mins => ?), make_interval(mins => ?)) AS s(start_at)";
+
+    // One set-based insert: slots outside the requested range or overlapping an existing slot are skipped,
+    // and uq_slot_time absorbs a concurrent generation of the same slots. No slot is longer than
+    // MAX_SLOT_MINUTES, so only existing slots starting that far before a candidate can overlap it.
+    // Parameters: price, currency, slot length, the candidate query's own, then range start and end.
+    private static final String INSERT_SLOTS_SQL = "INSERT INTO availability_slots "
+            + "(id, start_at, end_at, price, currency, is_active, is_booked) "
+            + "SELECT gen_random_uuid(), c.start_at, c.end_at, ?, ?, true, false FROM ("
+            + "SELECT start_at, start_at + make_interval(mins => ?) AS end_at FROM (%s) AS candidates) AS c "
+            + "WHERE c.start_at >= ? AND c.end_at <= ? "
+            + "AND NOT EXISTS (SELECT 1 FROM availability_slots e WHERE e.start_at < c.end_at "
+            + "AND e.start_at > c.start_at - interval '" + MAX_SLOT_MINUTES + " minutes' AND e.end_at > c.start_at) "
+            + "ON CONFLICT ON CONSTRAINT uq_slot_time DO NOTHING";
+
+    private static final String INSERT_CONTINUOUS_SLOTS_SQL = INSERT_SLOTS_SQL.formatted(CONTINUOUS_STARTS);
+    private static final String INSERT_WEEKLY_SLOTS_SQL = INSERT_SLOTS_SQL.formatted(WEEKLY_STARTS);
+
     private final AvailabilitySlotRepository availabilitySlotRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final AvailabilityIndex availabilityIndex;
+    private final AvailabilityStreamPermits availabilityStreamPermits;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final JsonMapper jsonMapper;
+
+    @Value("${booking.availability.max-range-days:92}")
+    private long maxRangeDays;
+
+    @Value("${booking.availability.stream-max-range-days:366}")
+    private long streamMaxRangeDays;
+
+    @Value("${booking.availability.stream-timeout-seconds:30}")
+    private int streamTimeoutSeconds;
 
+    // Returns the number of slots actually inserted; re-running over an already generated range inserts none
     public int generateSlots(GenerateAvailabilityRequest request) {
         validateDateRange(request.getStartAt(), request.getEndAt());
+        if (Duration.between(request.getStartAt(), request.getEndAt()).compareTo(MAX_GENERATION_RANGE) > 0) {
+            throw new IllegalArgumentException("Slots can be generated for at most one year at a time");
+        }
         BigDecimal price = request.getPrice();
         String currency = request.getCurrency() == null || request.getCurrency().isBlank()
                 ? "TRY"
                 : request.getCurrency().trim().toUpperCase();
+        int slotMinutes = request.getSlotMinutes() != null ? request.getSlotMinutes() : DEFAULT_SLOT_MINUTES;
+        Timestamp startAt = Timestamp.valueOf(request.getStartAt());
+        Timestamp endAt = Timestamp.valueOf(request.getEndAt());
 
-        List<AvailabilitySlot> slotsToSave = new ArrayList<>();
-        LocalDateTime cursor = request.getStartAt();
-        while (cursor.plus(SLOT_INTERVAL).compareTo(request.getEndAt()) <= 0) {
-            LocalDateTime next = cursor.plus(SLOT_INTERVAL);
-            if (!availabilitySlotRepository.existsByStartAtAndEndAt(cursor, next)) {
-                AvailabilitySlot slot = new AvailabilitySlot();
-                slot.setStartAt(cursor);
-                slot.setEndAt(next);
-                slot.setPrice(price);
-                slot.setCurrency(currency);
-                slot.setIsActive(true);
-                slot.setIsBooked(false);
-                slotsToSave.add(slot);
-            }
-            cursor = next;
+        eventPublisher.publishEvent(AvailabilityChangedEvent.between(request.getStartAt(), request.getEndAt()));
+
+        List<WeeklyAvailabilityWindow> template = request.getWeeklyTemplate();
+        if (template == null || template.isEmpty()) {
+            return jdbcTemplate.update(INSERT_CONTINUOUS_SLOTS_SQL, price, currency, slotMinutes,
+                    startAt, endAt, slotMinutes, slotMinutes, startAt, endAt);
         }
 
-        availabilitySlotRepository.saveAll(slotsToSave);
-        return slotsToSave.size();
+        validateTemplate(template);
+        Integer[] days = template.stream().map(window -> window.getDayOfWeek().getValue()).toArray(Integer[]::new);
+        String[] windowStarts = template.stream().map(window -> window.getStartTime().toString())
+                .toArray(String[]::new);
+        // PostgreSQL accepts 24:00 as a time of day, which keeps windows that end at midnight on their own day
+        String[] windowEnds = template.stream()
+                .map(window -> LocalTime.MIDNIGHT.equals(window.getEndTime()) ? "24:00" : window.getEndTime().toString())
+                .toArray(String[]::new);
+
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_WEEKLY_SLOTS_SQL);
+            statement.setBigDecimal(1, price);
+            statement.setString(2, currency);
+            statement.setInt(3, slotMinutes);
+            statement.setObject(4, request.getStartAt().toLocalDate());
+            statement.setObject(5, request.getEndAt().toLocalDate());
+            statement.setArray(6, connection.createArrayOf("int4", days));
+            statement.setArray(7, connection.createArrayOf("varchar", windowStarts));
+            statement.setArray(8, connection.createArrayOf("varchar", windowEnds));
+            statement.setInt(9, slotMinutes);
+            statement.setInt(10, slotMinutes);
+            statement.setTimestamp(11, startAt);
+            statement.setTimestamp(12, endAt);
+            return statement;
+        });
     }
 
-    @Transactional(readOnly = true)
+    // Served from AvailabilityIndex; SUPPORTS keeps the class-level transaction (and its connection) out of it
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<AvailabilitySlotResponse> getPublicAvailability(LocalDateTime from, LocalDateTime to) {
         validateDateRange(from, to);
-        return availabilitySlotRepository.findByStartAtBetweenAndIsActiveTrueAndIsBookedFalseOrderByStartAtAsc(from, to)
-                .stream()
-                .filter(slot -> slot.getStartAt().isAfter(LocalDateTime.now()))
-                .map(this::toResponse)
-                .toList();
+        validateRangeLength(from, to, maxRangeDays);
+        return availabilityIndex.find(from, to);
+    }
+
+    // NDJSON, one slot per line, written as rows come off the repository cursor. Each slot is detached once
+    // written, so neither the persistence context nor the response buffer grows with the range.
+    // Validation and the stream permit come before anything is written, so a bad range still gets a regular 400
+    // and a full house a 429. The transaction times out after stream-timeout-seconds: the timeout applies to the
+    // cursor query itself, and the deadline is re-checked between batches so a slow reader cannot hold the
+    // connection open indefinitely either.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public StreamingResponseBody streamPublicAvailability(LocalDateTime from, LocalDateTime to) {
+        validateDateRange(from, to);
+        validateRangeLength(from, to, streamMaxRangeDays);
+        availabilityStreamPermits.acquire();
+        TransactionTemplate streamTransaction = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        streamTransaction.setReadOnly(true);
+        streamTransaction.setTimeout(streamTimeoutSeconds);
+        return outputStream -> {
+            try {
+                streamTransaction.executeWithoutResult(status -> writeSlots(from, to, outputStream));
+            } finally {
+                availabilityStreamPermits.release();
+            }
+        };
+    }
+
+    private void writeSlots(LocalDateTime from, LocalDateTime to, OutputStream outputStream) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(streamTimeoutSeconds).toNanos();
+        try (Stream<AvailabilitySlot> slots = availabilitySlotRepository.streamBookableBetween(from, to,
+                LocalDateTime.now())) {
+            int written = 0;
+            for (Iterator<AvailabilitySlot> iterator = slots.iterator(); iterator.hasNext();) {
+                AvailabilitySlot slot = iterator.next();
+                outputStream.write(jsonMapper.writeValueAsBytes(toResponse(slot)));
+                outputStream.write('\n');
+                entityManager.detach(slot);
+                if (++written % AvailabilitySlotRepository.STREAM_FETCH_SIZE == 0) {
+                    outputStream.flush();
+                    if (System.nanoTime() - deadline > 0) {
+                        throw new TransactionTimedOutException("Availability stream exceeded "
+                                + streamTimeoutSeconds + " seconds after " + written + " slots");
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     public AvailabilitySlotResponse updatePrice(UUID slotId, UpdateSlotPriceRequest request) {
@@ -76,6 +209,7 @@ public class AvailabilityService {
         slot.setCurrency(request.getCurrency() == null || request.getCurrency().isBlank()
                 ? "TRY"
                 : request.getCurrency().trim().toUpperCase());
+        eventPublisher.publishEvent(AvailabilityChangedEvent.at(slot.getStartAt()));
         return toResponse(availabilitySlotRepository.save(slot));
     }
 
@@ -86,10 +220,11 @@ public class AvailabilityService {
             throw new IllegalArgumentException("Booked slot cannot be deactivated");
         }
         slot.setIsActive(request.getIsActive());
+        eventPublisher.publishEvent(AvailabilityChangedEvent.at(slot.getStartAt()));
         return toResponse(availabilitySlotRepository.save(slot));
     }
 
-    private AvailabilitySlotResponse toResponse(AvailabilitySlot slot) {
+    static AvailabilitySlotResponse toResponse(AvailabilitySlot slot) {
         return AvailabilitySlotResponse.builder()
                 .id(slot.getId())
                 .startAt(slot.getStartAt())
@@ -99,6 +234,37 @@ public class AvailabilityService {
                 .build();
     }
 
+    // The INSERT's overlap check only sees rows that existed before the statement, so overlapping windows on
+    // the same day would produce overlapping slots; they are rejected here instead
+    private void validateTemplate(List<WeeklyAvailabilityWindow> template) {
+        template.forEach(this::validateWindow);
+        List<WeeklyAvailabilityWindow> sorted = template.stream()
+                .sorted(Comparator.comparing(WeeklyAvailabilityWindow::getDayOfWeek)
+                        .thenComparing(WeeklyAvailabilityWindow::getStartTime))
+                .toList();
+        for (int i = 1; i < sorted.size(); i++) {
+            WeeklyAvailabilityWindow previous = sorted.get(i - 1);
+            WeeklyAvailabilityWindow current = sorted.get(i);
+            if (previous.getDayOfWeek() == current.getDayOfWeek()
+                    && (LocalTime.MIDNIGHT.equals(previous.getEndTime())
+                            || current.getStartTime().isBefore(previous.getEndTime()))) {
+                throw new IllegalArgumentException("Weekly windows overlap on " + current.getDayOfWeek());
+            }
+        }
+    }
+
+    private void validateWindow(WeeklyAvailabilityWindow window) {
+        if (!LocalTime.MIDNIGHT.equals(window.getEndTime()) && !window.getStartTime().isBefore(window.getEndTime())) {
+            throw new IllegalArgumentException("Weekly window start time must be before its end time");
+        }
+    }
+
+    private void validateRangeLength(LocalDateTime from, LocalDateTime to, long maxDays) {
+        if (Duration.between(from, to).compareTo(Duration.ofDays(maxDays)) > 0) {
+            throw new IllegalArgumentException("Availability can be requested for at most " + maxDays + " days");
+        }
+    }
+
     private void validateDateRange(LocalDateTime startAt, LocalDateTime endAt) {
         if (startAt == null || endAt == null) {
             throw new IllegalArgumentException("Start and end time are required");
@@ -0,0 +1,33 @@
+package com.fsk.blogsitebackend.service;
+
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fsk.blogsitebackend.common.exception.AvailabilityStreamLimitException;
+
+// Caps concurrent availability downloads: each one pins a pooled connection and an open transaction until the
+// client has read the last line, so unbounded streams would starve every other request of connections.
+// Callers over the cap are turned away with a 429 instead of queueing.
+@Component
+public class AvailabilityStreamPermits {
+
+    private final int limit;
+    private final Semaphore permits;
+
+    public AvailabilityStreamPermits(@Value("${booking.availability.max-concurrent-streams:4}") int limit) {
+        this.limit = limit;
+        this.permits = new Semaphore(limit);
+    }
+
+    public void acquire() {
+        if (!permits.tryAcquire()) {
+            throw new AvailabilityStreamLimitException(limit);
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+}
@@ -0,0 +1,183 @@
+package com.fsk.blogsitebackend.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fsk.blogsitebackend.event.AvailabilityChangedEvent;
+import com.fsk.blogsitebackend.event.BookingCreatedEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// Cancels pending bookings whose payment hold has run out and puts their slots back on the calendar.
+// Holds created by this instance wait in an in-memory DelayQueue and are released by one virtual thread as
+// they come due, a batch at a time. The database stays the source of truth: on startup and then periodically
+// a sweep over idx_bookings_pending_hold releases anything the queue did not (restarts, other instances).
+@Slf4j
+@Component
+public class BookingHoldExpiryScheduler {
+
+    // Cancels the given bookings if they are still pending and past their hold, then un-books their slots
+    private static final String RELEASE_BY_ID_SQL = "WITH expired AS ("
+            + "UPDATE bookings SET status = 'CANCELLED', version = version + 1, updated_at = ? "
+            + "WHERE id = ANY(?) AND status = 'PENDING_PAYMENT' AND hold_expires_at <= ? "
+            + "RETURNING availability_slot_id) "
+            + "UPDATE availability_slots s SET is_booked = false, version = s.version + 1, updated_at = ? "
+            + "FROM expired e WHERE s.id = e.availability_slot_id RETURNING s.start_at";
+
+    // Same release for the oldest expired holds; SKIP LOCKED lets several instances sweep side by side
+    private static final String RELEASE_OLDEST_SQL = "WITH expired AS ("
+            + "UPDATE bookings SET status = 'CANCELLED', version = version + 1, updated_at = ? "
+            + "WHERE id IN (SELECT id FROM bookings WHERE status = 'PENDING_PAYMENT' AND hold_expires_at <= ? "
+            + "ORDER BY hold_expires_at LIMIT ? FOR UPDATE SKIP LOCKED) "
+            + "RETURNING availability_slot_id) "
+            + "UPDATE availability_slots s SET is_booked = false, version = s.version + 1, updated_at = ? "
+            + "FROM expired e WHERE s.id = e.availability_slot_id RETURNING s.start_at";
+
+    private static final String PENDING_HOLDS_SQL = "SELECT id, hold_expires_at FROM bookings "
+            + "WHERE status = 'PENDING_PAYMENT' AND hold_expires_at > ?";
+
+    private record Hold(UUID bookingId, LocalDateTime expiresAt) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(LocalDateTime.now().until(expiresAt, ChronoUnit.MILLIS), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return expiresAt.compareTo(((Hold) other).expiresAt);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final DelayQueue<Hold> holds = new DelayQueue<>();
+    private final ExecutorService worker = Executors
+            .newSingleThreadExecutor(Thread.ofVirtual().name("booking-hold-expiry").factory());
+
+    public BookingHoldExpiryScheduler(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher, @Value("${booking.hold.batch-size:200}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        releaseExpiredHolds();
+        jdbcTemplate.query(PENDING_HOLDS_SQL,
+                (rs, rowNum) -> holds.add(new Hold(rs.getObject("id", UUID.class),
+                        rs.getTimestamp("hold_expires_at").toLocalDateTime())),
+                Timestamp.valueOf(LocalDateTime.now()));
+        worker.execute(this::drainQueue);
+    }
+
+    // Registered after commit so a rolled back booking never enters the queue
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookingCreated(BookingCreatedEvent event) {
+        if (event.booking().getHoldExpiresAt() != null) {
+            holds.add(new Hold(event.booking().getId(), event.booking().getHoldExpiresAt()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${booking.hold.sweep-interval-ms:300000}",
+            initialDelayString = "${booking.hold.sweep-interval-ms:300000}")
+    public void sweep() {
+        releaseExpiredHolds();
+    }
+
+    public int releaseExpiredHolds() {
+        int total = 0;
+        int released;
+        do {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<LocalDateTime> slotStarts = transactionTemplate.execute(status -> jdbcTemplate.queryForList(
+                    RELEASE_OLDEST_SQL, LocalDateTime.class, now, now, batchSize, now));
+            released = slotStarts.size();
+            total += released;
+            publishReleased(slotStarts);
+        } while (released == batchSize);
+        if (total > 0) {
+            log.info("Released {} expired booking holds", total);
+        }
+        return total;
+    }
+
+    public int pendingHolds() {
+        return holds.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    private void drainQueue() {
+        List<Hold> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(holds.take());
+                // Everything else already due rides along in the same statement
+                holds.drainTo(batch, batchSize - 1);
+                release(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // Left for the periodic sweep
+                log.warn("Failed to release {} booking holds", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void release(List<Hold> batch) {
+        UUID[] bookingIds = batch.stream().map(Hold::bookingId).toArray(UUID[]::new);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<LocalDateTime> slotStarts = transactionTemplate.execute(status -> jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(RELEASE_BY_ID_SQL);
+            statement.setTimestamp(1, now);
+            statement.setArray(2, connection.createArrayOf("uuid", bookingIds));
+            statement.setTimestamp(3, now);
+            statement.setTimestamp(4, now);
+            return statement;
+        }, (rs, rowNum) -> rs.getTimestamp(1).toLocalDateTime()));
+        if (!slotStarts.isEmpty()) {
+            log.info("Released {} expired booking holds", slotStarts.size());
+            publishReleased(slotStarts);
+        }
+    }
+
+    // Released slots are bookable again; outside any transaction, so listeners run right away
+    private void publishReleased(List<LocalDateTime> slotStarts) {
+        if (slotStarts.isEmpty()) {
+            return;
+        }
+        LocalDateTime first = slotStarts.stream().min(LocalDateTime::compareTo).orElseThrow();
+        LocalDateTime last = slotStarts.stream().max(LocalDateTime::compareTo).orElseThrow();
+        eventPublisher.publishEvent(AvailabilityChangedEvent.between(first, last));
+    }
+}
@@ -4,10 +4,15 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fsk.blogsitebackend.common.exception.BookingHoldExpiredException;
 import com.fsk.blogsitebackend.common.exception.ResourceNotFoundException;
+import com.fsk.blogsitebackend.common.exception.SlotAlreadyBookedException;
 import com.fsk.blogsitebackend.dto.booking.BookingResponse;
 import com.fsk.blogsitebackend.dto.booking.bookingrequest.CreateBookingRequest;
 import com.fsk.blogsitebackend.entities.AvailabilitySlot;
@@ -15,12 +20,16 @@ import com.fsk.blogsitebackend.entities.Booking;
 import com.fsk.blogsitebackend.entities.Booking.BookingStatus;
 import com.fsk.blogsitebackend.entities.Notification.NotificationType;
 import com.fsk.blogsitebackend.entities.User;
+import com.fsk.blogsitebackend.event.AvailabilityChangedEvent;
+import com.fsk.blogsitebackend.event.BookingCreatedEvent;
 import com.fsk.blogsitebackend.repository.AvailabilitySlotRepository;
 import com.fsk.blogsitebackend.repository.BookingRepository;
 import com.fsk.blogsitebackend.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
@@ -31,20 +40,21 @@ public class BookingService {
     private final EmailService emailService;
     private final NotificationService notificationService;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${booking.hold.ttl-minutes:30}")
+    private long holdTtlMinutes;
 
     public BookingResponse createBooking(CreateBookingRequest request) {
-        AvailabilitySlot slot = availabilitySlotRepository.findById(request.getSlotId())
-                .orElseThrow(() -> new ResourceNotFoundException("AvailabilitySlot", "id", request.getSlotId()));
+        UUID slotId = request.getSlotId();
+        LocalDateTime now = LocalDateTime.now();
 
-        if (slot.getStartAt().isBefore(LocalDateTime.now())) {
-            throw new IllegalArgumentException("Past slots cannot be booked");
-        }
-        if (!Boolean.TRUE.equals(slot.getIsActive())) {
-            throw new IllegalArgumentException("Selected slot is not active");
-        }
-        if (Boolean.TRUE.equals(slot.getIsBooked())) {
-            throw new IllegalArgumentException("Selected slot is already booked");
+        // Claim first, then do the work: a request that loses the race stops here with nothing written
+        if (availabilitySlotRepository.claim(slotId, now) == 0) {
+            throw rejectClaim(slotId, now);
         }
+        AvailabilitySlot slot = availabilitySlotRepository.findById(slotId)
+                .orElseThrow(() -> new ResourceNotFoundException("AvailabilitySlot", "id", slotId));
 
         Booking booking = new Booking();
         booking.setAvailabilitySlot(slot);
@@ -55,14 +65,13 @@ public class BookingService {
         booking.setAmount(slot.getPrice());
         booking.setCurrency(slot.getCurrency());
         booking.setStatus(BookingStatus.PENDING_PAYMENT);
-
-        slot.setIsBooked(true);
-        availabilitySlotRepository.save(slot);
+        booking.setHoldExpiresAt(now.plusMinutes(holdTtlMinutes));
 
         Booking savedBooking = bookingRepository.save(booking);
 
-        emailService.sendBookingNotification(savedBooking);
         notifyAdmin(savedBooking);
+        eventPublisher.publishEvent(new BookingCreatedEvent(savedBooking));
+        eventPublisher.publishEvent(AvailabilityChangedEvent.at(slot.getStartAt()));
 
         return toResponse(savedBooking);
     }
@@ -74,11 +83,26 @@ public class BookingService {
         if (booking.getStatus() == BookingStatus.PAID) {
             return toResponse(booking);
         }
+        // The hold ran out and the slot may already belong to someone else; the money has to go back
+        if (booking.getStatus() == BookingStatus.CANCELLED) {
+            log.warn("Payment {} arrived for booking {} after its hold expired, refund required",
+                    paymentReference, bookingId);
+            throw new BookingHoldExpiredException(bookingId);
+        }
 
         booking.setStatus(BookingStatus.PAID);
         booking.setPaymentReference(paymentReference);
 
-        Booking updatedBooking = bookingRepository.save(booking);
+        // Flushed here so a clash with the hold release (or a duplicate webhook) surfaces as a 409 from this
+        // method instead of a commit failure after it
+        Booking updatedBooking;
+        try {
+            updatedBooking = bookingRepository.saveAndFlush(booking);
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("Payment {} for booking {} raced a concurrent change (hold release or duplicate payment), "
+                    + "check whether it needs a refund", paymentReference, bookingId);
+            throw new BookingHoldExpiredException(bookingId);
+        }
 
         emailService.sendBookingPaidEmailToClient(updatedBooking);
         return toResponse(updatedBooking);
@@ -105,20 +129,28 @@ public class BookingService {
                 .amount(booking.getAmount())
                 .currency(booking.getCurrency())
                 .paymentReference(booking.getPaymentReference())
+                .holdExpiresAt(booking.getHoldExpiresAt())
                 .createdAt(booking.getCreatedAt())
                 .build();
     }
 
-    private void notifyAdmin(Booking booking) {
-        List<User> admins = userRepository.findAll().stream()
-                .filter(user -> user.getRole() == User.UserRole.ADMIN)
-                .toList();
-
-        if (admins.isEmpty()) {
-            return;
+    // Explains a lost claim; only runs on the failure path, so the happy path never reads the slot up front
+    private RuntimeException rejectClaim(UUID slotId, LocalDateTime now) {
+        AvailabilitySlot slot = availabilitySlotRepository.findById(slotId)
+                .orElseThrow(() -> new ResourceNotFoundException("AvailabilitySlot", "id", slotId));
+        if (!slot.getStartAt().isAfter(now)) {
+            return new IllegalArgumentException("Past slots cannot be booked");
         }
+        if (!Boolean.TRUE.equals(slot.getIsActive())) {
+            return new IllegalArgumentException("Selected slot is not active");
+        }
+        return new SlotAlreadyBookedException(slotId);
+    }
 
-        String message = String.format("Yeni rezervasyon: %s - %s", booking.getTitle(), booking.getClientName());
-        notificationService.createNotification(admins.get(0), NotificationType.BOOKING_REQUEST, message, null, null);
+    private void notifyAdmin(Booking booking) {
+        userRepository.findFirstByRole(User.UserRole.ADMIN).ifPresent(admin -> {
+            String message = String.format("Yeni rezervasyon: %s - %s", booking.getTitle(), booking.getClientName());
+            notificationService.createNotification(admin, NotificationType.BOOKING_REQUEST, message, null, null);
+        });
     }
 }
@@ -6,6 +6,7 @@ import java.util.UUID;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fsk.blogsitebackend.common.ResourceVersion;
 import com.fsk.blogsitebackend.common.exception.ResourceNotFoundException;
 import com.fsk.blogsitebackend.dto.category.CategoryMapper;
 import com.fsk.blogsitebackend.dto.category.categoryrequest.CreateCategoryRequest;
@@ -26,6 +27,11 @@ public class CategoryService {
         return categoryRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion getVersion() {
+        return categoryRepository.findResourceVersion();
+    }
+
     public CategoryEntity save(CategoryEntity category) {
         return categoryRepository.save(category);
     }
@@ -1,5 +1,6 @@
 package com.fsk.blogsitebackend.service;
 
+import jakarta.annotation.PreDestroy;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
@@ -9,10 +10,14 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.fsk.blogsitebackend.entities.Booking;
+import com.fsk.blogsitebackend.event.BookingCreatedEvent;
 
 import java.io.UnsupportedEncodingException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +25,7 @@ import java.io.UnsupportedEncodingException;
 public class EmailService {
 
     private final JavaMailSender mailSender;
+    private final ExecutorService bookingMailSenders = Executors.newVirtualThreadPerTaskExecutor();
 
     @Value("${spring.mail.username}")
     private String fromEmail;
@@ -64,8 +70,20 @@ public class EmailService {
                 "</div>";
     }
 
-    @Async
-    public void sendBookingNotification(Booking booking) {
+    // After commit only: a booking that rolls back (or loses its slot) never emails the owner.
+    // Sent on a virtual thread so the booking request returns without waiting on SMTP; the slot was loaded by
+    // createBooking, so the detached booking is safe to render there
+    @TransactionalEventListener
+    public void onBookingCreated(BookingCreatedEvent event) {
+        bookingMailSenders.execute(() -> sendBookingNotification(event.booking()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        bookingMailSenders.shutdown();
+    }
+
+    private void sendBookingNotification(Booking booking) {
         try {
             MimeMessage message = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(message, true);
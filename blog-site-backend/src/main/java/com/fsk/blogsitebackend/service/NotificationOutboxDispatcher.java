@@ -0,0 +1,142 @@
+package com.fsk.blogsitebackend.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fsk.blogsitebackend.dto.user.NotificationResponse;
+import com.fsk.blogsitebackend.event.NotificationsQueuedEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// Moves notification_outbox rows into notifications on a single virtual thread.
+// Each batch is one statement in one transaction: claim the oldest rows with SKIP LOCKED (so several instances
+// can drain side by side), delete them, insert the notifications and upsert the recipients' unread counters.
+// Once the batch has committed the new notifications and counts are pushed to the recipients' open streams.
+@Slf4j
+@Component
+public class NotificationOutboxDispatcher {
+
+    private static final String DRAIN_SQL = "WITH batch AS ("
+            + "SELECT id FROM notification_outbox ORDER BY created_at, id LIMIT ? FOR UPDATE SKIP LOCKED), "
+            + "moved AS ("
+            + "DELETE FROM notification_outbox o USING batch WHERE o.id = batch.id "
+            + "RETURNING o.recipient_id, o.type, o.message, o.related_post_slug, o.related_comment_id, o.created_at), "
+            + "inserted AS ("
+            + "INSERT INTO notifications (id, user_id, type, message, is_read, related_post_slug, related_comment_id, "
+            + "created_at) "
+            + "SELECT gen_random_uuid(), recipient_id, type, message, false, related_post_slug, related_comment_id, "
+            + "created_at FROM moved "
+            + "RETURNING id, user_id, type, message, related_post_slug, related_comment_id, created_at), "
+            + "counted AS ("
+            + "INSERT INTO user_notification_counters (user_id, unread_count) "
+            + "SELECT user_id, COUNT(*) FROM inserted GROUP BY user_id "
+            + "ON CONFLICT (user_id) DO UPDATE "
+            + "SET unread_count = user_notification_counters.unread_count + EXCLUDED.unread_count "
+            + "RETURNING user_id, unread_count) "
+            + "SELECT i.id, i.user_id, i.type, i.message, i.related_post_slug, i.related_comment_id, i.created_at, "
+            + "c.unread_count FROM inserted i JOIN counted c ON c.user_id = i.user_id ORDER BY i.created_at, i.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationStreamHub notificationStreamHub;
+    private final int batchSize;
+    private final ExecutorService executor = Executors
+            .newSingleThreadExecutor(Thread.ofVirtual().name("notification-outbox").factory());
+    private final AtomicBoolean drainQueued = new AtomicBoolean();
+
+    public NotificationOutboxDispatcher(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            NotificationStreamHub notificationStreamHub,
+            @Value("${blog.notifications.outbox.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.notificationStreamHub = notificationStreamHub;
+        this.batchSize = batchSize;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNotificationsQueued(NotificationsQueuedEvent event) {
+        wakeUp();
+    }
+
+    // Safety net for rows whose wake-up was lost (crash between commit and drain, another instance's rows)
+    @Scheduled(fixedDelayString = "${blog.notifications.outbox.poll-interval-ms:5000}")
+    public void poll() {
+        wakeUp();
+    }
+
+    // Coalesces wake-ups: at most one drain is waiting behind the one that is running
+    void wakeUp() {
+        if (drainQueued.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                drainQueued.set(false);
+                drain();
+            });
+        }
+    }
+
+    int drain() {
+        int total = 0;
+        try {
+            List<Delivered> delivered;
+            do {
+                delivered = transactionTemplate.execute(status -> jdbcTemplate.query(DRAIN_SQL,
+                        (rs, rowNum) -> mapDelivered(rs), batchSize));
+                total += delivered.size();
+                push(delivered);
+            } while (delivered.size() == batchSize);
+        } catch (RuntimeException e) {
+            // Rows stay in the outbox and are picked up by the next poll
+            log.warn("Failed to dispatch queued notifications, will retry", e);
+        }
+        return total;
+    }
+
+    private void push(List<Delivered> delivered) {
+        Map<UUID, Long> unreadCounts = new LinkedHashMap<>();
+        for (Delivered row : delivered) {
+            if (notificationStreamHub.hasSubscribers(row.userId())) {
+                notificationStreamHub.publish(row.userId(), NotificationStreamHub.NOTIFICATION_EVENT,
+                        row.notification());
+                unreadCounts.put(row.userId(), row.unreadCount());
+            }
+        }
+        unreadCounts.forEach((userId, unreadCount) -> notificationStreamHub.publish(userId,
+                NotificationStreamHub.UNREAD_COUNT_EVENT, unreadCount));
+    }
+
+    private static Delivered mapDelivered(ResultSet rs) throws SQLException {
+        NotificationResponse notification = new NotificationResponse();
+        notification.setId(rs.getObject("id", UUID.class));
+        notification.setType(rs.getString("type"));
+        notification.setMessage(rs.getString("message"));
+        notification.setIsRead(false);
+        notification.setRelatedPostSlug(rs.getString("related_post_slug"));
+        notification.setRelatedCommentId(rs.getObject("related_comment_id", UUID.class));
+        notification.setCreatedAt(rs.getObject("created_at", LocalDateTime.class));
+        return new Delivered(rs.getObject("user_id", UUID.class), notification, rs.getLong("unread_count"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private record Delivered(UUID userId, NotificationResponse notification, long unreadCount) {
+    }
+}
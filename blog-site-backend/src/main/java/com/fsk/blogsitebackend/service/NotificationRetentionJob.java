@@ -0,0 +1,51 @@
+package com.fsk.blogsitebackend.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Deletes read notifications older than the retention age.
+// Works in small batches, each in its own transaction, so it never holds long locks or bloats one huge DELETE.
+// Unread notifications are kept regardless of age, so the unread counters stay valid.
+@Slf4j
+@Component
+public class NotificationRetentionJob {
+
+    private static final String DELETE_BATCH_SQL = "DELETE FROM notifications WHERE id IN ("
+            + "SELECT id FROM notifications WHERE is_read = true AND created_at < ? "
+            + "ORDER BY created_at LIMIT ? FOR UPDATE SKIP LOCKED)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionDays;
+    private final int batchSize;
+
+    public NotificationRetentionJob(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+            @Value("${blog.notifications.retention.read-days:90}") int retentionDays,
+            @Value("${blog.notifications.retention.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${blog.notifications.retention.cron:0 30 3 * * *}")
+    public void purgeReadNotifications() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long total = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> jdbcTemplate.update(DELETE_BATCH_SQL, cutoff, batchSize));
+            total += deleted;
+        } while (deleted == batchSize);
+        if (total > 0) {
+            log.info("Deleted {} read notifications older than {} days", total, retentionDays);
+        }
+    }
+}
@@ -1,19 +1,31 @@
 package com.fsk.blogsitebackend.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.fsk.blogsitebackend.common.CursorPage;
+import com.fsk.blogsitebackend.common.KeysetCursor;
 import com.fsk.blogsitebackend.common.exception.ResourceNotFoundException;
 import com.fsk.blogsitebackend.dto.user.NotificationResponse;
 import com.fsk.blogsitebackend.entities.Notification;
 import com.fsk.blogsitebackend.entities.Notification.NotificationType;
 import com.fsk.blogsitebackend.entities.User;
+import com.fsk.blogsitebackend.event.NotificationsQueuedEvent;
+import com.fsk.blogsitebackend.event.UnreadCountChangedEvent;
 import com.fsk.blogsitebackend.repository.NotificationRepository;
-import com.fsk.blogsitebackend.repository.UserRepository;
+import com.fsk.blogsitebackend.repository.projection.NotificationView;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,70 +34,97 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 public class NotificationService {
 
+    private static final String OUTBOX_INSERT_SQL = "INSERT INTO notification_outbox "
+            + "(recipient_id, type, message, related_post_slug, related_comment_id) VALUES (?, ?, ?, ?, ?)";
+
     private final NotificationRepository notificationRepository;
-    private final UserRepository userRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationStreamHub notificationStreamHub;
 
     public void createNotification(User recipient, NotificationType type, String message,
             String relatedPostSlug, UUID relatedCommentId) {
-        Notification notification = new Notification();
-        notification.setUser(recipient);
-        notification.setType(type);
-        notification.setMessage(message);
-        notification.setRelatedPostSlug(relatedPostSlug);
-        notification.setRelatedCommentId(relatedCommentId);
-        notification.setIsRead(false);
-
-        notificationRepository.save(notification);
-
-        // Increment unread count
-        recipient.setUnreadNotificationCount(recipient.getUnreadNotificationCount() + 1);
-        userRepository.save(recipient);
+        createNotifications(List.of(recipient.getId()), type, message, relatedPostSlug, relatedCommentId);
+    }
+
+    // Only writes outbox rows in the caller's transaction; NotificationOutboxDispatcher turns them into
+    // notifications and counter updates after commit, so the request never locks user rows
+    public void createNotifications(Collection<UUID> recipientIds, NotificationType type, String message,
+            String relatedPostSlug, UUID relatedCommentId) {
+        if (recipientIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = new ArrayList<>(recipientIds.size());
+        for (UUID recipientId : recipientIds) {
+            batchArgs.add(new Object[] { recipientId, type.name(), message, relatedPostSlug, relatedCommentId });
+        }
+        jdbcTemplate.batchUpdate(OUTBOX_INSERT_SQL, batchArgs);
+        eventPublisher.publishEvent(new NotificationsQueuedEvent(batchArgs.size()));
     }
 
     @Transactional(readOnly = true)
-    public List<NotificationResponse> getNotificationsForUser(UUID userId) {
-        List<Notification> notifications = notificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        return notifications.stream()
+    public CursorPage<NotificationResponse> getNotificationsForUser(UUID userId, String cursor, int size,
+            boolean unreadOnly) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<NotificationView> views = unreadOnly
+                ? notificationRepository.findUnreadViewsBefore(userId, position.timestamp(), position.id(), limit)
+                : notificationRepository.findViewsBefore(userId, position.timestamp(), position.id(), limit);
+
+        boolean hasNext = views.size() > size;
+        List<NotificationView> pageViews = hasNext ? views.subList(0, size) : views;
+        List<NotificationResponse> content = pageViews.stream()
                 .map(this::mapToResponse)
                 .collect(Collectors.toList());
+        String nextCursor = null;
+        if (hasNext) {
+            NotificationView last = pageViews.get(pageViews.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(content, nextCursor, hasNext);
     }
 
+    // Answered from the counter row: no COUNT over notifications, no user entity involved
     @Transactional(readOnly = true)
     public long getUnreadCount(UUID userId) {
-        return notificationRepository.countUnreadByUserId(userId);
+        return unreadNotificationCounter.get(userId);
     }
 
     public void markAsRead(UUID notificationId, UUID userId) {
+        unreadNotificationCounter.lock(userId);
+        // Conditional update: only the transaction that actually flips is_read decrements the counter
+        if (notificationRepository.markAsReadIfUnread(notificationId, userId) == 1) {
+            unreadNotificationCounter.decrement(userId);
+            eventPublisher.publishEvent(new UnreadCountChangedEvent(userId));
+            return;
+        }
+
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Notification", "id", notificationId));
-
         if (!notification.getUser().getId().equals(userId)) {
             throw new RuntimeException("Cannot mark someone else's notification as read");
         }
-
-        if (!notification.getIsRead()) {
-            notification.setIsRead(true);
-            notificationRepository.save(notification);
-
-            // Decrement unread count
-            User user = notification.getUser();
-            if (user.getUnreadNotificationCount() > 0) {
-                user.setUnreadNotificationCount(user.getUnreadNotificationCount() - 1);
-                userRepository.save(user);
-            }
-        }
     }
 
+    // The reset locks the counter row before the notification rows, the same order as markAsRead
     public void markAllAsRead(UUID userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-
+        unreadNotificationCounter.reset(userId);
         notificationRepository.markAllAsReadByUserId(userId);
-        user.setUnreadNotificationCount(0);
-        userRepository.save(user);
+        eventPublisher.publishEvent(new UnreadCountChangedEvent(userId));
+    }
+
+    // Other tabs of the same user update their badge; the count is read after commit
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onUnreadCountChanged(UnreadCountChangedEvent event) {
+        if (notificationStreamHub.hasSubscribers(event.userId())) {
+            notificationStreamHub.publish(event.userId(), NotificationStreamHub.UNREAD_COUNT_EVENT,
+                    unreadNotificationCounter.get(event.userId()));
+        }
     }
 
-    private NotificationResponse mapToResponse(Notification notification) {
+    private NotificationResponse mapToResponse(NotificationView notification) {
         NotificationResponse response = new NotificationResponse();
         response.setId(notification.getId());
         response.setType(notification.getType().name());
@@ -0,0 +1,193 @@
+package com.fsk.blogsitebackend.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+// In-process fan-out of notification events to the users' open SSE streams.
+// An idle stream is only an async request plus a small bounded queue: no thread is parked on it.
+// Sends run on virtual threads, one drain at a time per stream, so a slow client only ever blocks its own sender.
+// A client that lets its queue fill up is disconnected; EventSource reconnects, gets the unread count on connect
+// and the bell refetches the first inbox page, since missed events are not replayed.
+@Component
+public class NotificationStreamHub {
+
+    public static final String NOTIFICATION_EVENT = "notification";
+    public static final String UNREAD_COUNT_EVENT = "unread-count";
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong sequence = new AtomicLong();
+    private final long timeoutMs;
+    private final int queueCapacity;
+    private final int maxStreamsPerUser;
+
+    public NotificationStreamHub(MeterRegistry meterRegistry,
+            @Value("${blog.notifications.stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${blog.notifications.stream.queue-capacity:64}") int queueCapacity,
+            @Value("${blog.notifications.stream.max-per-user:5}") int maxStreamsPerUser) {
+        this.timeoutMs = timeoutMs;
+        this.queueCapacity = queueCapacity;
+        this.maxStreamsPerUser = maxStreamsPerUser;
+        Gauge.builder("blog.notifications.streams.active", this, NotificationStreamHub::activeStreams)
+                .description("Open notification SSE streams")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(UUID userId, long unreadCount) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(userId, emitter, sequence.incrementAndGet());
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> remove(subscriber));
+
+        // Added inside compute so it cannot race remove() dropping the user's (empty) set.
+        // Too many tabs: the oldest streams make room, picked from the same set that is stored in the map.
+        List<Subscriber> evicted = new ArrayList<>();
+        subscribers.compute(userId, (id, current) -> {
+            Set<Subscriber> updated = current != null ? current : ConcurrentHashMap.newKeySet();
+            updated.add(subscriber);
+            while (updated.size() > maxStreamsPerUser) {
+                Subscriber oldest = Collections.min(updated, Comparator.comparingLong(Subscriber::sequence));
+                updated.remove(oldest);
+                evicted.add(oldest);
+            }
+            return updated;
+        });
+        // Completed outside compute: close() calls back into the map
+        evicted.forEach(Subscriber::close);
+
+        subscriber.offer(SseEmitter.event().name(UNREAD_COUNT_EVENT).data(unreadCount));
+        return emitter;
+    }
+
+    public boolean hasSubscribers(UUID userId) {
+        Set<Subscriber> userSubscribers = subscribers.get(userId);
+        return userSubscribers != null && !userSubscribers.isEmpty();
+    }
+
+    public void publish(UUID userId, String eventName, Object data) {
+        Set<Subscriber> userSubscribers = subscribers.get(userId);
+        if (userSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : userSubscribers) {
+            subscriber.offer(SseEmitter.event().name(eventName).data(data));
+        }
+    }
+
+    public int activeStreams() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    // Keeps proxies from closing idle streams; skipped for streams that still have events queued
+    @Scheduled(fixedDelayString = "${blog.notifications.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> {
+            if (subscriber.isIdle()) {
+                subscriber.offer(SseEmitter.event().comment("heartbeat"));
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(Subscriber::close));
+        senders.shutdown();
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId(), (userId, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+    }
+
+    private final class Subscriber {
+        private final UUID userId;
+        private final SseEmitter emitter;
+        private final long sequence;
+        private final BlockingQueue<SseEventBuilder> queue = new ArrayBlockingQueue<>(queueCapacity);
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private Subscriber(UUID userId, SseEmitter emitter, long sequence) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.sequence = sequence;
+        }
+
+        private UUID userId() {
+            return userId;
+        }
+
+        private long sequence() {
+            return sequence;
+        }
+
+        private boolean isIdle() {
+            return queue.isEmpty() && !sending.get();
+        }
+
+        private void offer(SseEventBuilder event) {
+            if (!queue.offer(event)) {
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (sending.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEventBuilder event;
+                while ((event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away or the emitter is already complete
+                remove(this);
+                queue.clear();
+                return;
+            } finally {
+                sending.set(false);
+            }
+            // An offer may have landed between the last poll and releasing the flag
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close() {
+            remove(this);
+            queue.clear();
+            emitter.complete();
+        }
+    }
+}
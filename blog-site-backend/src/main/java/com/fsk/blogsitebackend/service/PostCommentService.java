@@ -1,20 +1,24 @@
 package com.fsk.blogsitebackend.service;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.fsk.blogsitebackend.common.exception.NoUsersFoundException;
+import com.fsk.blogsitebackend.common.CursorPage;
+import com.fsk.blogsitebackend.common.KeysetCursor;
 import com.fsk.blogsitebackend.common.exception.ResourceNotFoundException;
 import com.fsk.blogsitebackend.dto.comment.CommentMapper;
 import com.fsk.blogsitebackend.dto.comment.CommentResponse;
@@ -23,10 +27,11 @@ import com.fsk.blogsitebackend.entities.Notification.NotificationType;
 import com.fsk.blogsitebackend.entities.PostComment;
 import com.fsk.blogsitebackend.entities.PostEntity;
 import com.fsk.blogsitebackend.entities.User;
-import com.fsk.blogsitebackend.entities.User.UserRole;
 import com.fsk.blogsitebackend.repository.PostCommentRepository;
 import com.fsk.blogsitebackend.repository.PostRepository;
 import com.fsk.blogsitebackend.repository.UserRepository;
+import com.fsk.blogsitebackend.repository.projection.CommentThreadView;
+import com.fsk.blogsitebackend.repository.projection.CommentTreeView;
 
 import lombok.RequiredArgsConstructor;
 
@@ -34,6 +39,8 @@ import lombok.RequiredArgsConstructor;
 @Transactional
 @RequiredArgsConstructor
 public class PostCommentService {
+
+    private static final int MAX_MENTIONS = 50;
     
     private final PostCommentRepository postCommentRepository;
     private final PostRepository postRepository;
@@ -94,14 +101,9 @@ public class PostCommentService {
         PostEntity post = postRepository.findBySlug(postSlug)
                 .orElseThrow(() -> new ResourceNotFoundException("Post", "slug", postSlug));
 
-        User author;
-        if (authorId != null) {
-            author = userRepository.findById(authorId)
-                    .orElseThrow(() -> new ResourceNotFoundException("User", "id", authorId));
-        } else {
-            author = userRepository.findAll().stream().findFirst()
-                    .orElseThrow(NoUsersFoundException::new);
-        }
+        // The controller only calls this for an authenticated user, there is no anonymous fallback author
+        User author = userRepository.findById(Objects.requireNonNull(authorId, "authorId"))
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", authorId));
 
         PostComment comment = new PostComment();
         comment.setContent(request.getContent());
@@ -114,36 +116,28 @@ public class PostCommentService {
             comment.setParentComment(parent);
         }
 
-        Set<User> mentionedUsers = extractMentions(request.getContent());
+        Set<User> mentionedUsers = resolveMentions(request.getContent());
         comment.setMentionedUsers(mentionedUsers);
 
         PostComment savedComment = postCommentRepository.save(comment);
 
-        for (User mentionedUser : mentionedUsers) {
-            if (!mentionedUser.getId().equals(author.getId())) {
-                String message = String.format("%s sizi bir yorumda etiketledi: \"%s\"",
-                        author.getFullName(),
-                        truncateMessage(request.getContent(), 50));
-                notificationService.createNotification(
-                        mentionedUser,
-                        NotificationType.MENTION,
-                        message,
-                        postSlug,
-                        savedComment.getId());
-            }
+        List<UUID> recipientIds = mentionedUsers.stream()
+                .map(User::getId)
+                .filter(mentionedUserId -> !mentionedUserId.equals(author.getId()))
+                .collect(Collectors.toList());
+        if (!recipientIds.isEmpty()) {
+            String message = String.format("%s sizi bir yorumda etiketledi: \"%s\"",
+                    author.getFullName(),
+                    truncateMessage(request.getContent(), 50));
+            notificationService.createNotifications(recipientIds, NotificationType.MENTION, message, postSlug,
+                    savedComment.getId());
         }
 
         return commentMapper.toResponse(savedComment);
     }
 
-    public void softDeleteComment(UUID commentId, UUID adminUserId) {
-        User admin = userRepository.findById(adminUserId)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", adminUserId));
-
-        if (admin.getRole() != UserRole.ADMIN) {
-            throw new RuntimeException("Only admins can delete comments");
-        }
-
+    // Admin only; enforced by method security on CommentController
+    public void softDeleteComment(UUID commentId) {
         PostComment comment = postCommentRepository.findById(commentId).orElseThrow(() -> new ResourceNotFoundException("Comment", "id", commentId));
 
         commentMapper.applySoftDelete(comment, comment);
@@ -152,29 +146,29 @@ public class PostCommentService {
 
     @Transactional(readOnly = true)
     public List<CommentResponse> getCommentsForPost(String postSlug) {
-        PostEntity post = postRepository.findBySlug(postSlug)
+        UUID postId = postRepository.findIdBySlug(postSlug)
                 .orElseThrow(() -> new ResourceNotFoundException("Post", "slug", postSlug));
 
-        List<PostComment> allComments = postCommentRepository.findByPostIdAndIsActiveTrue(post.getId());
+        List<CommentTreeView> allComments = postCommentRepository.findTreeViewsByPostId(postId);
 
         return buildCommentTree(allComments);
     }
 
-    private List<CommentResponse> buildCommentTree(List<PostComment> allComments) {
+    private List<CommentResponse> buildCommentTree(List<CommentTreeView> allComments) {
         Map<UUID, CommentResponse> commentMap = new HashMap<>();
         List<CommentResponse> roots = new ArrayList<>();
 
-        for (PostComment entity : allComments) {
-            CommentResponse dto = commentMapper.toResponse(entity);
-            commentMap.put(entity.getId(), dto);
+        for (CommentTreeView view : allComments) {
+            commentMap.put(view.getId(), commentMapper.toResponse(view));
         }
 
-        for (PostComment entity : allComments) {
-            CommentResponse dto = commentMap.get(entity.getId());
-            if (entity.getParentComment() == null) {
+        // Rows come ordered by createdAt, so replies end up oldest first under their parent
+        for (CommentTreeView view : allComments) {
+            CommentResponse dto = commentMap.get(view.getId());
+            if (view.getParentId() == null) {
                 roots.add(dto);
             } else {
-                CommentResponse parentDto = commentMap.get(entity.getParentComment().getId());
+                CommentResponse parentDto = commentMap.get(view.getParentId());
                 if (parentDto != null) {
                     parentDto.getReplies().add(dto);
                 }
@@ -182,20 +176,107 @@ public class PostCommentService {
         }
 
         roots.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
+        commentMap.values().forEach(dto -> dto.setReplyCount(dto.getReplies().size()));
 
         return roots;
     }
 
-    private Set<User> extractMentions(String content) {
-        Set<User> mentionedUsers = new HashSet<>();
-        Pattern pattern = Pattern.compile("@(\\w+)");
-        Matcher matcher = pattern.matcher(content);
+    // Paged threads: top-level comments newest first, each carrying its first replies and a reply count.
+    // Deeper levels are expanded on demand through getReplies.
+    @Transactional(readOnly = true)
+    public CursorPage<CommentResponse> getCommentThreads(String postSlug, String cursor, int size, int replyLimit) {
+        UUID postId = postRepository.findIdBySlug(postSlug)
+                .orElseThrow(() -> new ResourceNotFoundException("Post", "slug", postSlug));
+        KeysetCursor position = KeysetCursor.decode(cursor);
+
+        List<CommentThreadView> views = postCommentRepository.findThreadViewsBefore(postId, position.timestamp(),
+                position.id(), size + 1, replyLimit);
+
+        Map<UUID, CommentResponse> rootsById = new LinkedHashMap<>();
+        List<CommentThreadView> replies = new ArrayList<>();
+        for (CommentThreadView view : views) {
+            if (view.getParentId() == null) {
+                rootsById.put(view.getId(), commentMapper.toThreadResponse(view));
+            } else {
+                replies.add(view);
+            }
+        }
+        for (CommentThreadView reply : replies) {
+            CommentResponse root = rootsById.get(reply.getParentId());
+            if (root != null) {
+                root.getReplies().add(commentMapper.toThreadResponse(reply));
+            }
+        }
+
+        // Rows arrive oldest first, threads are shown newest first
+        List<CommentResponse> roots = new ArrayList<>(rootsById.values());
+        Collections.reverse(roots);
+        boolean hasNext = roots.size() > size;
+        List<CommentResponse> content = hasNext ? roots.subList(0, size) : roots;
+        String nextCursor = null;
+        if (hasNext) {
+            CommentResponse last = content.get(content.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<CommentResponse> getReplies(String postSlug, UUID commentId, String cursor, int size) {
+        if (!postCommentRepository.existsByIdAndPostSlug(commentId, postSlug)) {
+            throw new ResourceNotFoundException("Comment", "id", commentId);
+        }
+        KeysetCursor position = KeysetCursor.decode(cursor, KeysetCursor.ORIGIN);
+
+        List<CommentThreadView> views = postCommentRepository.findReplyViewsAfter(commentId, position.timestamp(),
+                position.id(), size + 1);
+
+        boolean hasNext = views.size() > size;
+        List<CommentThreadView> pageViews = hasNext ? views.subList(0, size) : views;
+        List<CommentResponse> content = pageViews.stream()
+                .map(commentMapper::toThreadResponse)
+                .collect(Collectors.toList());
+        String nextCursor = null;
+        if (hasNext) {
+            CommentThreadView last = pageViews.get(pageViews.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
 
-        while (matcher.find()) {
-            String username = matcher.group(1);
-            userRepository.findByUsername(username).ifPresent(mentionedUsers::add);
+    // All mentioned users in one IN query
+    private Set<User> resolveMentions(String content) {
+        Set<String> usernames = extractMentionedUsernames(content);
+        if (usernames.isEmpty()) {
+            return new HashSet<>();
         }
-        return mentionedUsers;
+        return new HashSet<>(userRepository.findByUsernameIn(usernames));
+    }
+
+    // Scans for @username (same word characters as \w) without a regex; duplicates collapse and the count is capped
+    static Set<String> extractMentionedUsernames(String content) {
+        Set<String> usernames = new LinkedHashSet<>();
+        if (content == null) {
+            return usernames;
+        }
+        int length = content.length();
+        int i = content.indexOf('@');
+        while (i >= 0 && usernames.size() < MAX_MENTIONS) {
+            int start = i + 1;
+            int end = start;
+            while (end < length && isUsernameChar(content.charAt(end))) {
+                end++;
+            }
+            if (end > start) {
+                usernames.add(content.substring(start, end));
+            }
+            i = content.indexOf('@', end);
+        }
+        return usernames;
+    }
+
+    private static boolean isUsernameChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
     }
 
     private String truncateMessage(String message, int maxLength) {
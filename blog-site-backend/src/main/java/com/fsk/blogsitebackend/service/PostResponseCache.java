@@ -0,0 +1,90 @@
+package com.fsk.blogsitebackend.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fsk.blogsitebackend.dto.post.PostResponse;
+import com.fsk.blogsitebackend.event.PostChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Bounded by approximate size in bytes rather than entry count, because a post body can be a few hundred KB.
+// Concurrent misses for one slug share a single load; eviction after commit waits for an in-flight load of that
+// slug, so a stale response can't be put back once a write is visible. PostResponse is mutable, so every caller
+// gets its own copy and never sees another request's changes to the cached instance.
+@Component
+public class PostResponseCache {
+
+    private final Cache<String, PostResponse> cache;
+
+    public PostResponseCache(
+            @Value("${blog.posts.cache.max-size-bytes:33554432}") long maxSizeBytes,
+            @Value("${blog.posts.cache.ttl-minutes:10}") long ttlMinutes,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSizeBytes)
+                .weigher((String slug, PostResponse post) -> estimateSize(slug, post))
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postsBySlug");
+    }
+
+    public PostResponse get(String slug, Function<String, PostResponse> loader) {
+        PostResponse cached = cache.get(slug, loader);
+        return cached == null ? null : copyOf(cached);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        cache.invalidateAll(event.slugs());
+    }
+
+    // Strings are immutable, so copying the fields is enough
+    private static PostResponse copyOf(PostResponse post) {
+        PostResponse copy = new PostResponse();
+        copy.setId(post.getId());
+        copy.setTitle(post.getTitle());
+        copy.setSlug(post.getSlug());
+        copy.setContent(post.getContent());
+        copy.setExcerpt(post.getExcerpt());
+        copy.setFeaturedImage(post.getFeaturedImage());
+        copy.setStatus(post.getStatus());
+        copy.setPublishedAt(post.getPublishedAt());
+        copy.setViewCount(post.getViewCount());
+        copy.setTags(post.getTags() == null ? null : new ArrayList<>(post.getTags()));
+        if (post.getAuthor() != null) {
+            PostResponse.AuthorResponse author = new PostResponse.AuthorResponse();
+            author.setId(post.getAuthor().getId());
+            author.setUsername(post.getAuthor().getUsername());
+            author.setFullName(post.getAuthor().getFullName());
+            author.setAvatarUrl(post.getAuthor().getAvatarUrl());
+            copy.setAuthor(author);
+        }
+        return copy;
+    }
+
+    // UTF-16 chars, close enough to heap usage for bounding purposes
+    private static int estimateSize(String slug, PostResponse post) {
+        long chars = slug.length() + length(post.getTitle()) + length(post.getContent()) + length(post.getExcerpt())
+                + length(post.getFeaturedImage());
+        if (post.getTags() != null) {
+            for (String tag : post.getTags()) {
+                chars += length(tag);
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, 256 + chars * 2);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
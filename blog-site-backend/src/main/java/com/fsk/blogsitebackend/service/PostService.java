@@ -1,34 +1,52 @@
 package com.fsk.blogsitebackend.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fsk.blogsitebackend.common.CursorPage;
+import com.fsk.blogsitebackend.common.KeysetCursor;
+import com.fsk.blogsitebackend.common.ResourceVersion;
 import com.fsk.blogsitebackend.common.exception.NoUsersFoundException;
+import com.fsk.blogsitebackend.common.exception.PostNotFoundException;
 import com.fsk.blogsitebackend.common.exception.ResourceNotFoundException;
 import com.fsk.blogsitebackend.common.exception.SlugAlreadyExistsException;
 import com.fsk.blogsitebackend.dto.post.postrequest.CreatePostRequest;
 import com.fsk.blogsitebackend.dto.post.PostMapper;
 import com.fsk.blogsitebackend.dto.post.PostResponse;
+import com.fsk.blogsitebackend.dto.post.PostSuggestionResponse;
+import com.fsk.blogsitebackend.dto.post.PostSummaryResponse;
 import com.fsk.blogsitebackend.entities.PostEntity;
 import com.fsk.blogsitebackend.entities.PostEntity.PostStatus;
 import com.fsk.blogsitebackend.entities.TagEntity;
+import com.fsk.blogsitebackend.event.PostChangedEvent;
 import com.fsk.blogsitebackend.entities.User;
 import com.fsk.blogsitebackend.repository.PostRepository;
 import com.fsk.blogsitebackend.repository.TagRepository;
 import com.fsk.blogsitebackend.repository.UserRepository;
 import com.fsk.blogsitebackend.repository.CategoryRepository;
+import com.fsk.blogsitebackend.repository.projection.PostContentView;
+import com.fsk.blogsitebackend.repository.projection.PostListView;
+import com.fsk.blogsitebackend.repository.projection.PostSearchView;
+import com.fsk.blogsitebackend.repository.projection.PostTagNameView;
 import com.fsk.blogsitebackend.entities.CategoryEntity;
+import com.fsk.blogsitebackend.search.PostSearchIndex;
 
 import lombok.RequiredArgsConstructor;
 
@@ -37,15 +55,44 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class PostService {
 
+    private static final int SIMILAR_SLUG_LIMIT = 5;
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final TagRepository tagRepository;
     private final CategoryRepository categoryRepository;
     private final PostMapper postMapper;
+    private final PostSearchIndex postSearchIndex;
+    private final PostViewCounter postViewCounter;
+    private final PostResponseCache postResponseCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // Cache hits skip the transaction entirely; misses load (and fall back to "did you mean" slugs) in their
+    // own transaction, concurrent misses for the same slug share one load
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostResponse getResponseBySlug(String slug) {
+        return postResponseCache.get(slug, this::loadResponseBySlug);
+    }
 
+    // The one query a GET /posts/{slug} costs before the conditional check: it counts the view (so a 304 still
+    // counts) and returns the version, which includes tags and author because the response embeds them.
+    // An unknown slug gets an empty version and falls through to the cached load and its 404.
     @Transactional(readOnly = true)
-    public Optional<PostResponse> findResponseBySlug(String slug) {
-        return postRepository.findBySlug(slug).map(postMapper::toResponse);
+    public ResourceVersion recordViewAndGetVersion(String slug) {
+        return postRepository.findVersionViewBySlug(slug)
+                .map(view -> {
+                    postViewCounter.record(view.getId());
+                    return view.toResourceVersion();
+                })
+                .orElseGet(() -> new ResourceVersion(0L, 0L, null));
+    }
+
+    private PostResponse loadResponseBySlug(String slug) {
+        return transactionTemplate.execute(status -> postRepository.findBySlug(slug)
+                .map(postMapper::toResponse)
+                .orElseThrow(() -> new PostNotFoundException(slug,
+                        postRepository.findSimilarSlugs(slug, SIMILAR_SLUG_LIMIT))));
     }
 
     @Transactional(readOnly = true)
@@ -87,7 +134,9 @@ public class PostService {
             handleCategories(request, post);
         }
 
-        PostEntity savedPost = postRepository.save(post);
+        PostEntity savedPost = postRepository.saveAndFlush(post);
+        postRepository.refreshSearchVector(savedPost.getId());
+        eventPublisher.publishEvent(PostChangedEvent.of(savedPost.getId(), savedPost.getSlug()));
         return postMapper.toResponse(savedPost);
     }
 
@@ -95,8 +144,12 @@ public class PostService {
         PostEntity existingPost = postRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Post", "id", id));
 
+        String previousSlug = existingPost.getSlug();
         postMapper.updateFromEntity(post, existingPost);
-        return postRepository.save(existingPost);
+        PostEntity savedPost = postRepository.saveAndFlush(existingPost);
+        postRepository.refreshSearchVector(savedPost.getId());
+        eventPublisher.publishEvent(PostChangedEvent.of(savedPost.getId(), previousSlug, savedPost.getSlug()));
+        return savedPost;
     }
 
     public void deleteById(UUID id) {
@@ -104,6 +157,7 @@ public class PostService {
                 .orElseThrow(() -> new ResourceNotFoundException("Post", "id", id));
         postMapper.applySoftDelete(existingPost, existingPost);
         postRepository.save(existingPost);
+        eventPublisher.publishEvent(PostChangedEvent.of(id, existingPost.getSlug()));
     }
 
     @Transactional(readOnly = true)
@@ -115,27 +169,111 @@ public class PostService {
         return postRepository.findAll().stream().map(postMapper::toResponse).collect(Collectors.toList());
     }
 
-    public Page<PostResponse> getFilteredPosts(String category, String tag, String search, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by("publishedAt").descending());
-        Page<PostEntity> postsPage;
+    @Transactional(readOnly = true)
+    public Page<PostSummaryResponse> getFilteredPostSummaries(String category, String tag, String search,
+            boolean fuzzy, int page, int size) {
+        Page<? extends PostListView> postsPage = findListViews(category, tag, search, fuzzy, page, size);
+        Map<UUID, List<String>> tagNamesByPostId = findTagNamesByPostId(postsPage.getContent());
+        return postsPage.map(view -> postMapper.toSummaryResponse(view,
+                tagNamesByPostId.getOrDefault(view.getId(), new ArrayList<>()),
+                view instanceof PostSearchView searchView ? searchView.getSnippet() : null));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<PostResponse> getFilteredPosts(String category, String tag, String search, boolean fuzzy, int page,
+            int size) {
+        Page<? extends PostListView> postsPage = findListViews(category, tag, search, fuzzy, page, size);
+        Map<UUID, List<String>> tagNamesByPostId = findTagNamesByPostId(postsPage.getContent());
+        Map<UUID, String> contentByPostId = findContentByPostId(postsPage.getContent());
+        return postsPage.map(view -> postMapper.toResponse(view,
+                tagNamesByPostId.getOrDefault(view.getId(), new ArrayList<>()),
+                contentByPostId.get(view.getId())));
+    }
 
+    // Keyset mode: chronological only, fetches one extra row to learn whether another page exists
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummaryResponse> getPostSummariesAfter(String category, String tag, String cursor,
+            int size) {
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        Pageable limit = PageRequest.ofSize(size + 1);
+        List<PostListView> views;
         if (category != null && !category.isEmpty()) {
-            postsPage = postRepository.findByCategorySlug(category, pageable);
+            views = postRepository.findListViewsByCategorySlugBefore(category, position.timestamp(), position.id(),
+                    limit);
         } else if (tag != null && !tag.isEmpty()) {
-            postsPage = postRepository.findByTagSlug(tag, pageable);
-        } else if (search != null && !search.isEmpty()) {
-            postsPage = postRepository.searchByTitle(search, pageable);
+            views = postRepository.findListViewsByTagSlugBefore(tag, position.timestamp(), position.id(), limit);
         } else {
-            postsPage = postRepository.findAll(pageable);
+            views = postRepository.findListViewsBefore(position.timestamp(), position.id(), limit);
+        }
+
+        boolean hasNext = views.size() > size;
+        List<PostListView> pageViews = hasNext ? views.subList(0, size) : views;
+        Map<UUID, List<String>> tagNamesByPostId = findTagNamesByPostId(pageViews);
+        List<PostSummaryResponse> content = pageViews.stream()
+                .map(view -> postMapper.toSummaryResponse(view,
+                        tagNamesByPostId.getOrDefault(view.getId(), new ArrayList<>()), null))
+                .collect(Collectors.toList());
+        String nextCursor = null;
+        if (hasNext) {
+            PostListView last = pageViews.get(pageViews.size() - 1);
+            LocalDateTime sortKey = last.getPublishedAt() != null ? last.getPublishedAt()
+                    : KeysetCursor.START.timestamp();
+            nextCursor = new KeysetCursor(sortKey, last.getId()).encode();
+        }
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
+    private Page<? extends PostListView> findListViews(String category, String tag, String search, boolean fuzzy,
+            int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("publishedAt").descending());
+
+        if (category != null && !category.isEmpty()) {
+            return postRepository.findListViewsByCategorySlug(category, pageable);
+        } else if (tag != null && !tag.isEmpty()) {
+            return postRepository.findListViewsByTagSlug(tag, pageable);
+        } else if (search != null && !search.isBlank()) {
+            // Search results are ordered by relevance inside the query
+            if (fuzzy) {
+                return postRepository.fuzzySearchListViewsByTitle(search.trim(), PageRequest.of(page, size));
+            }
+            return postRepository.searchListViews(search.trim(), PageRequest.of(page, size));
+        }
+        return postRepository.findListViews(pageable);
+    }
+
+    // One IN query for the whole page instead of initializing each post's tag collection
+    private Map<UUID, List<String>> findTagNamesByPostId(List<? extends PostListView> views) {
+        if (views.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, List<String>> tagNamesByPostId = new HashMap<>();
+        for (PostTagNameView tagName : postRepository.findTagNamesByPostIds(postIds(views))) {
+            tagNamesByPostId.computeIfAbsent(tagName.getPostId(), id -> new ArrayList<>()).add(tagName.getName());
         }
+        return tagNamesByPostId;
+    }
+
+    // Bodies are only read when the caller explicitly asks for full posts
+    private Map<UUID, String> findContentByPostId(List<? extends PostListView> views) {
+        if (views.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, String> contentByPostId = new HashMap<>();
+        for (PostContentView content : postRepository.findContentsByPostIds(postIds(views))) {
+            contentByPostId.put(content.getId(), content.getContent());
+        }
+        return contentByPostId;
+    }
 
-        return postsPage.map(postMapper::toResponse);
+    private List<UUID> postIds(List<? extends PostListView> views) {
+        return views.stream().map(PostListView::getId).collect(Collectors.toList());
     }
 
     public PostResponse updatePost(UUID id, CreatePostRequest request) {
         PostEntity existingPost = postRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Post", "id", id));
 
+        String previousSlug = existingPost.getSlug();
         postMapper.updateFromRequest(request, existingPost);
 
         if (request.getTags() != null) {
@@ -146,7 +284,18 @@ public class PostService {
             handleCategories(request, existingPost);
         }
 
-        return postMapper.toResponse(postRepository.save(existingPost));
+        PostEntity savedPost = postRepository.saveAndFlush(existingPost);
+        postRepository.refreshSearchVector(savedPost.getId());
+        eventPublisher.publishEvent(PostChangedEvent.of(savedPost.getId(), previousSlug, savedPost.getSlug()));
+        return postMapper.toResponse(savedPost);
+    }
+
+    // Served from the in-memory index, no transaction or connection needed
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<PostSuggestionResponse> suggestPosts(String query, int limit) {
+        return postSearchIndex.search(query, limit).stream()
+                .map(postMapper::toSuggestionResponse)
+                .collect(Collectors.toList());
     }
 
     private void handleTags(CreatePostRequest request, PostEntity existingPost) {
@@ -0,0 +1,76 @@
+package com.fsk.blogsitebackend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// Views are counted in memory and written in one batched UPDATE per flush.
+// The UPDATE bypasses the entity, so @Version and updated_at are left alone and readers never block on hot rows.
+@Slf4j
+@Component
+public class PostViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<UUID, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+    public PostViewCounter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        Gauge.builder("blog.posts.views.pending", this, PostViewCounter::pendingCount)
+                .description("View increments waiting to be flushed to the database")
+                .register(meterRegistry);
+    }
+
+    public void record(UUID postId) {
+        pendingViews.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    public long pendingCount() {
+        return pendingViews.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    @Scheduled(fixedDelayString = "${blog.posts.view-counter.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        List<UUID> postIds = new ArrayList<>();
+        List<Object[]> batchArgs = new ArrayList<>();
+        // Entries are kept after draining: removing them could drop an increment racing with sumThenReset
+        pendingViews.forEach((postId, views) -> {
+            long delta = views.sumThenReset();
+            if (delta > 0) {
+                postIds.add(postId);
+                batchArgs.add(new Object[] { delta, postId });
+            }
+        });
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+        } catch (RuntimeException e) {
+            // Put the drained counts back so the next flush retries them
+            for (int i = 0; i < postIds.size(); i++) {
+                pendingViews.computeIfAbsent(postIds.get(i), id -> new LongAdder()).add((long) batchArgs.get(i)[0]);
+            }
+            log.warn("Failed to flush view counts for {} posts, will retry", postIds.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
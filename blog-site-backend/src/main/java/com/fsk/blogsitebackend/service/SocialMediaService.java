@@ -1,5 +1,6 @@
 package com.fsk.blogsitebackend.service;
 
+import com.fsk.blogsitebackend.common.ResourceVersion;
 import com.fsk.blogsitebackend.common.exception.ResourceNotFoundException;
 import com.fsk.blogsitebackend.dto.socialmedia.SocialMediaMapper;
 import com.fsk.blogsitebackend.dto.socialmedia.SocialMediaResponse;
@@ -23,6 +24,12 @@ public class SocialMediaService {
     private final SocialMediaRepository socialMediaRepository;
     private final SocialMediaMapper socialMediaMapper;
 
+    // Covers inactive rows too: toggling a row changes its version, which is what the active list needs
+    @Transactional(readOnly = true)
+    public ResourceVersion getVersion() {
+        return socialMediaRepository.findResourceVersion();
+    }
+
     @Transactional(readOnly = true)
     public List<SocialMediaResponse> getActiveSocialMedia() {
         return socialMediaRepository.findAllByIsActiveTrueOrderByDisplayOrderAsc()
@@ -1,19 +1,25 @@
 package com.fsk.blogsitebackend.service;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fsk.blogsitebackend.common.ResourceVersion;
 import com.fsk.blogsitebackend.common.exception.ResourceNotFoundException;
 import com.fsk.blogsitebackend.dto.tag.TagMapper;
 import com.fsk.blogsitebackend.dto.tag.TagResponse;
 import com.fsk.blogsitebackend.dto.tag.tagrequest.CreateTagRequest;
 import com.fsk.blogsitebackend.entities.TagEntity;
+import com.fsk.blogsitebackend.event.PostChangedEvent;
+import com.fsk.blogsitebackend.repository.PostRepository;
 import com.fsk.blogsitebackend.repository.TagRepository;
+import com.fsk.blogsitebackend.repository.projection.PostSlugView;
 
 @Service
 @RequiredArgsConstructor
@@ -21,12 +27,19 @@ public class TagService {
 
     private final TagRepository tagRepository;
     private final TagMapper tagMapper;
+    private final PostRepository postRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<TagEntity> findAll() {
         return tagRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public ResourceVersion getVersion() {
+        return tagRepository.findResourceVersion();
+    }
+
     @Transactional(readOnly = true)
     public List<TagResponse> findAllResponses() {
         return tagRepository.findAll().stream()
@@ -46,8 +59,17 @@ public class TagService {
     @Transactional
     public TagEntity update(UUID id, CreateTagRequest request) {
         TagEntity existingTag = tagRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Tag", "id", id));
+        String previousName = existingTag.getName();
         tagMapper.updateTagFromRequest(request, existingTag);
-        return tagRepository.save(existingTag);
+        TagEntity savedTag = tagRepository.saveAndFlush(existingTag);
+        if (!Objects.equals(previousName, savedTag.getName())) {
+            postRepository.refreshSearchVectorsByTagId(savedTag.getId());
+            // Cached post responses carry tag names
+            for (PostSlugView post : postRepository.findSlugViewsByTagId(savedTag.getId())) {
+                eventPublisher.publishEvent(PostChangedEvent.of(post.getId(), post.getSlug()));
+            }
+        }
+        return savedTag;
     }
 
     @Transactional
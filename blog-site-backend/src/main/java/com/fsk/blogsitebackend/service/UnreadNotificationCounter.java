@@ -0,0 +1,46 @@
+package com.fsk.blogsitebackend.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// Per-user unread count kept in user_notification_counters and changed only with atomic SQL.
+// Increments happen in NotificationOutboxDispatcher's drain statement; this covers reads and decrements.
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    private static final String SELECT_SQL = "SELECT unread_count FROM user_notification_counters WHERE user_id = ?";
+    private static final String LOCK_SQL = "SELECT unread_count FROM user_notification_counters "
+            + "WHERE user_id = ? FOR UPDATE";
+    private static final String DECREMENT_SQL = "UPDATE user_notification_counters "
+            + "SET unread_count = unread_count - 1 WHERE user_id = ? AND unread_count > 0";
+    private static final String RESET_SQL = "UPDATE user_notification_counters SET unread_count = 0 WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long get(UUID userId) {
+        List<Long> counts = jdbcTemplate.queryForList(SELECT_SQL, Long.class, userId);
+        return counts.isEmpty() ? 0 : counts.get(0);
+    }
+
+    // Taken first by every path that marks notifications read, so they all lock counter row then notification
+    // rows and a "read" racing a "read all" waits instead of deadlocking
+    public void lock(UUID userId) {
+        jdbcTemplate.queryForList(LOCK_SQL, Long.class, userId);
+    }
+
+    public void decrement(UUID userId) {
+        jdbcTemplate.update(DECREMENT_SQL, userId);
+    }
+
+    // Run before marking the notifications read: the row lock makes a concurrent drain's increment wait,
+    // so notifications that arrive meanwhile are counted after the reset instead of being wiped by it
+    public void reset(UUID userId) {
+        jdbcTemplate.update(RESET_SQL, userId);
+    }
+}
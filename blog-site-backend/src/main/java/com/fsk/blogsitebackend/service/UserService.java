@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,6 +14,7 @@ import com.fsk.blogsitebackend.dto.user.userrequest.RegisterRequest;
 import com.fsk.blogsitebackend.dto.user.UserResponse;
 import com.fsk.blogsitebackend.entities.User;
 import com.fsk.blogsitebackend.entities.User.UserRole;
+import com.fsk.blogsitebackend.event.UserChangedEvent;
 import com.fsk.blogsitebackend.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -25,6 +27,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final org.springframework.security.crypto.password.PasswordEncoder passwordEncoder;
     private final com.fsk.blogsitebackend.dto.user.UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     public UserResponse register(RegisterRequest request) {
         // Check if username exists
@@ -86,7 +89,9 @@ public class UserService {
     }
 
     public User save(User user) {
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(savedUser.getId()));
+        return savedUser;
     }
 
     public User update(UUID id, User user) {
@@ -101,11 +106,14 @@ public class UserService {
         existingUser.setRole(user.getRole());
         existingUser.setEmailNotificationsEnabled(user.getEmailNotificationsEnabled());
 
-        return userRepository.save(existingUser);
+        User savedUser = userRepository.save(existingUser);
+        eventPublisher.publishEvent(new UserChangedEvent(id));
+        return savedUser;
     }
 
     public void deleteById(UUID id) {
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserChangedEvent(id));
     }
 
     @Transactional(readOnly = true)
@@ -140,6 +148,7 @@ public class UserService {
         user.setEnabled(true);
         userRepository.save(user);
         tokenRepository.delete(verificationToken);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId()));
     }
 
 }
@@ -0,0 +1,21 @@
+-- Weighted full-text document for posts: title (A), tag names (B), excerpt (C), content (D).
+-- 'simple' configuration because posts are written in both Turkish and English.
+ALTER TABLE posts ADD COLUMN search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION post_search_vector(p_post_id UUID) RETURNS tsvector
+LANGUAGE sql STABLE AS $$
+    SELECT setweight(to_tsvector('simple', coalesce(p.title, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce((
+               SELECT string_agg(t.name, ' ')
+               FROM post_tags pt
+               JOIN tags t ON t.id = pt.tag_id
+               WHERE pt.post_id = p.id), '')), 'B')
+        || setweight(to_tsvector('simple', coalesce(p.excerpt, '')), 'C')
+        || setweight(to_tsvector('simple', coalesce(p.content, '')), 'D')
+    FROM posts p
+    WHERE p.id = p_post_id
+$$;
+
+UPDATE posts SET search_vector = post_search_vector(id);
+
+CREATE INDEX idx_posts_search_vector ON posts USING GIN (search_vector);
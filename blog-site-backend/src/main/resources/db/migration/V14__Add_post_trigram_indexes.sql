@@ -0,0 +1,5 @@
+-- Trigram indexes for "did you mean" slug suggestions and fuzzy title search
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_posts_slug_trgm ON posts USING GIN (slug gin_trgm_ops);
+CREATE INDEX idx_posts_title_trgm ON posts USING GIN (lower(title) gin_trgm_ops);
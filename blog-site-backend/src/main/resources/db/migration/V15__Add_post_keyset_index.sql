@@ -0,0 +1,2 @@
+-- Keyset pagination of the post listing seeks on (published_at, id) in descending order
+CREATE INDEX idx_posts_published_at_id ON posts (published_at DESC, id DESC) WHERE published_at IS NOT NULL;
@@ -0,0 +1,33 @@
+-- Secondary indexes for the repository finders
+
+-- PostRepository.findByStatus / findByAuthorId
+CREATE INDEX idx_posts_status_published_at ON posts(status, published_at DESC);
+CREATE INDEX idx_posts_author_id ON posts(author_id);
+
+-- findByTagSlug / findByCategorySlug join from the tag or category side; the primary keys start with post_id
+CREATE INDEX idx_post_tags_tag_id ON post_tags(tag_id, post_id);
+CREATE INDEX idx_post_categories_category_id ON post_categories(category_id, post_id);
+
+-- PostCommentRepository
+CREATE INDEX idx_post_comments_post_created ON post_comments(post_id, created_at);
+CREATE INDEX idx_post_comments_post_active ON post_comments(post_id, created_at) WHERE is_active = true;
+CREATE INDEX idx_post_comments_post_top_level ON post_comments(post_id, created_at) WHERE parent_comment_id IS NULL;
+CREATE INDEX idx_post_comments_author_id ON post_comments(author_id);
+CREATE INDEX idx_post_comments_parent_id ON post_comments(parent_comment_id);
+CREATE INDEX idx_comment_mentioned_users_user_id ON comment_mentioned_users(user_id);
+
+-- NotificationRepository: newest first per user; the plain user_id index becomes redundant
+CREATE INDEX idx_notifications_user_created ON notifications(user_id, created_at DESC, id DESC);
+DROP INDEX IF EXISTS idx_notifications_user_id;
+
+-- AssetRepository.findByPostId
+CREATE INDEX idx_assets_post_id ON assets(post_id);
+
+-- BookingRepository: (status, created_at) supersedes the status-only index
+CREATE INDEX idx_bookings_status_created ON bookings(status, created_at DESC);
+DROP INDEX IF EXISTS idx_bookings_status;
+CREATE INDEX idx_bookings_created_at ON bookings(created_at DESC);
+
+-- AvailabilitySlotRepository: only open slots are listed
+CREATE INDEX idx_availability_slots_open_start_at ON availability_slots(start_at)
+    WHERE is_active = true AND is_booked = false;
@@ -0,0 +1,9 @@
+-- Paged comment threads
+
+-- Top-level comments of a post, newest first, seeked by (created_at, id)
+CREATE INDEX idx_post_comments_thread_roots ON post_comments(post_id, created_at DESC, id DESC)
+    WHERE parent_comment_id IS NULL AND is_active = true;
+
+-- First replies, "load more replies" and the reply counts, oldest first per parent
+CREATE INDEX idx_post_comments_active_replies ON post_comments(parent_comment_id, created_at, id)
+    WHERE is_active = true;
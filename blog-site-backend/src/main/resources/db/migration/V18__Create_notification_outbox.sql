@@ -0,0 +1,12 @@
+-- Transactional outbox for notifications: written with the comment or booking, drained after commit
+CREATE TABLE notification_outbox (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    recipient_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    type VARCHAR(50) NOT NULL,
+    message TEXT NOT NULL,
+    related_post_slug VARCHAR(255),
+    related_comment_id UUID
+);
+
+CREATE INDEX idx_notification_outbox_created ON notification_outbox(created_at, id);
@@ -0,0 +1,13 @@
+-- Unread notification counts move off the users row: counter updates no longer bump users.version
+-- or contend with profile writes, and are plain atomic SQL increments/decrements
+CREATE TABLE user_notification_counters (
+    user_id UUID PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    unread_count INTEGER NOT NULL DEFAULT 0,
+    CONSTRAINT chk_unread_count_non_negative CHECK (unread_count >= 0)
+);
+
+-- Backfill from the notifications themselves; the old column was not reliable
+INSERT INTO user_notification_counters (user_id, unread_count)
+SELECT user_id, COUNT(*) FROM notifications WHERE is_read = false GROUP BY user_id;
+
+ALTER TABLE users DROP COLUMN unread_notification_count;
@@ -0,0 +1,7 @@
+-- Unread-only inbox pages seek on (created_at, id) inside the unread rows; also covers the unread count
+CREATE INDEX idx_notifications_user_unread_created ON notifications(user_id, created_at DESC, id DESC)
+    WHERE is_read = false;
+DROP INDEX IF EXISTS idx_notifications_user_unread;
+
+-- Retention job: oldest read notifications first
+CREATE INDEX idx_notifications_read_created ON notifications(created_at) WHERE is_read = true;
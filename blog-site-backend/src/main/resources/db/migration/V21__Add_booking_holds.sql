@@ -0,0 +1,11 @@
+-- Pending bookings hold their slot only until hold_expires_at; expired holds are cancelled and the slot released
+ALTER TABLE bookings ADD COLUMN hold_expires_at TIMESTAMP;
+
+UPDATE bookings SET hold_expires_at = created_at + INTERVAL '30 minutes' WHERE status = 'PENDING_PAYMENT';
+
+-- Expiry sweep: only pending rows are indexed, so it never scans paid or cancelled history
+CREATE INDEX idx_bookings_pending_hold ON bookings(hold_expires_at) WHERE status = 'PENDING_PAYMENT';
+
+-- A released slot can be booked again, so only one non-cancelled booking per slot is unique
+ALTER TABLE bookings DROP CONSTRAINT IF EXISTS bookings_availability_slot_id_key;
+CREATE UNIQUE INDEX uq_bookings_active_slot ON bookings(availability_slot_id) WHERE status <> 'CANCELLED';
@@ -0,0 +1,4 @@
+-- Keyset pagination now covers unpublished posts too, sorting them first like the offset listing does
+DROP INDEX IF EXISTS idx_posts_published_at_id;
+CREATE INDEX idx_posts_listing_key
+    ON posts ((COALESCE(published_at, TIMESTAMP '9999-12-31 23:59:59')) DESC, id DESC);
@@ -0,0 +1,6 @@
+-- V16 and V17 left three overlapping (post_id, created_at) indexes on post_comments.
+-- idx_post_comments_post_created stays: it alone serves the unfiltered findByPostId and the post FK.
+-- Active comments of a post are read through it as well.
+DROP INDEX IF EXISTS idx_post_comments_post_active;
+-- Top-level comments are covered by idx_post_comments_thread_roots (V17) and idx_post_comments_post_created
+DROP INDEX IF EXISTS idx_post_comments_post_top_level;
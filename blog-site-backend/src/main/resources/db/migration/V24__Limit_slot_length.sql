@@ -0,0 +1,4 @@
+-- Slots are generated at most 8 hours long; the bound is what keeps the generator's overlap probe
+-- (AvailabilityService.INSERT_SLOTS_SQL) to a short range of idx_availability_slots_start_at
+ALTER TABLE availability_slots
+    ADD CONSTRAINT chk_slot_max_length CHECK (end_at - start_at <= INTERVAL '480 minutes');
@@ -0,0 +1,106 @@
+package com.fsk.blogsitebackend.repository;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Runs EXPLAIN for the SQL behind each repository finder with sequential scans priced out.
+// If a finder has no usable index Postgres still has to fall back to a Seq Scan, which fails the test.
+@SpringBootTest
+class FinderIndexUsageTests {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+    private static final UUID POST_ID = UUID.randomUUID();
+    private static final UUID TAG_ID = UUID.randomUUID();
+    private static final UUID CATEGORY_ID = UUID.randomUUID();
+    private static final UUID COMMENT_ID = UUID.randomUUID();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    static List<Object[]> finders() {
+        return List.of(
+                new Object[] { "PostRepository.findByStatus",
+                        "SELECT p.id FROM posts p WHERE p.status = 'PUBLISHED' ORDER BY p.published_at DESC" },
+                new Object[] { "PostRepository.findByAuthorId",
+                        "SELECT p.id FROM posts p WHERE p.author_id = '" + USER_ID + "'" },
+                new Object[] { "PostRepository.findByTagSlug",
+                        "SELECT p.id FROM posts p JOIN post_tags pt ON pt.post_id = p.id "
+                                + "JOIN tags t ON t.id = pt.tag_id WHERE t.slug = 'idx-tag'" },
+                new Object[] { "PostRepository.findByCategorySlug",
+                        "SELECT p.id FROM posts p JOIN post_categories pc ON pc.post_id = p.id "
+                                + "JOIN categories c ON c.id = pc.category_id WHERE c.slug = 'idx-category'" },
+                new Object[] { "PostCommentRepository.findByPostIdAndIsActiveTrue",
+                        "SELECT c.id FROM post_comments c WHERE c.post_id = '" + POST_ID + "' AND c.is_active = true" },
+                new Object[] { "PostCommentRepository.findByPostIdAndParentCommentIdIsNull",
+                        "SELECT c.id FROM post_comments c WHERE c.post_id = '" + POST_ID
+                                + "' AND c.parent_comment_id IS NULL" },
+                new Object[] { "PostCommentRepository.findByParentCommentId",
+                        "SELECT c.id FROM post_comments c WHERE c.parent_comment_id = '" + COMMENT_ID + "'" },
+                new Object[] { "PostCommentRepository.findByAuthorId",
+                        "SELECT c.id FROM post_comments c WHERE c.author_id = '" + USER_ID + "'" },
+                new Object[] { "NotificationRepository.findViewsBefore",
+                        "SELECT n.id FROM notifications n WHERE n.user_id = '" + USER_ID
+                                + "' AND (n.created_at, n.id) < (now(), '" + USER_ID
+                                + "') ORDER BY n.created_at DESC, n.id DESC LIMIT 21" },
+                new Object[] { "NotificationRepository.findUnreadViewsBefore",
+                        "SELECT n.id FROM notifications n WHERE n.user_id = '" + USER_ID
+                                + "' AND n.is_read = false AND (n.created_at, n.id) < (now(), '" + USER_ID
+                                + "') ORDER BY n.created_at DESC, n.id DESC LIMIT 21" },
+                new Object[] { "AssetRepository.findByPostId",
+                        "SELECT a.id FROM assets a WHERE a.post_id = '" + POST_ID + "'" },
+                new Object[] { "BookingRepository.findByStatusOrderByCreatedAtDesc",
+                        "SELECT b.id FROM bookings b WHERE b.status = 'PAID' ORDER BY b.created_at DESC" },
+                new Object[] { "AvailabilitySlotRepository.findByStartAtBetweenAndIsActiveTrueAndIsBookedFalse",
+                        "SELECT s.id FROM availability_slots s WHERE s.start_at BETWEEN now() AND now() + interval '7 days' "
+                                + "AND s.is_active = true AND s.is_booked = false ORDER BY s.start_at" });
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("finders")
+    void finderDoesNotScanSequentially(String finder, String sql) {
+        String plan = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            seed();
+            jdbcTemplate.execute("ANALYZE");
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            return jdbcTemplate.queryForList("EXPLAIN " + sql, String.class).stream()
+                    .collect(Collectors.joining("\n"));
+        });
+
+        assertFalse(plan.contains("Seq Scan"), () -> finder + " falls back to a sequential scan:\n" + plan);
+    }
+
+    private void seed() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("INSERT INTO users (id, username, email, password) VALUES (?, ?, ?, 'x')",
+                USER_ID, "idx-" + USER_ID, USER_ID + "@example.com");
+        jdbcTemplate.update("INSERT INTO posts (id, title, slug, content, status, published_at, author_id) "
+                + "VALUES (?, 'Index post', ?, 'content', 'PUBLISHED', ?, ?)", POST_ID, "idx-" + POST_ID, now, USER_ID);
+        jdbcTemplate.update("INSERT INTO tags (id, name, slug) VALUES (?, 'idx-tag', 'idx-tag')", TAG_ID);
+        jdbcTemplate.update("INSERT INTO categories (id, name, slug) VALUES (?, 'idx-category', 'idx-category')",
+                CATEGORY_ID);
+        jdbcTemplate.update("INSERT INTO post_tags (post_id, tag_id) VALUES (?, ?)", POST_ID, TAG_ID);
+        jdbcTemplate.update("INSERT INTO post_categories (post_id, category_id) VALUES (?, ?)", POST_ID, CATEGORY_ID);
+        jdbcTemplate.update("INSERT INTO post_comments (id, post_id, author_id, content) VALUES (?, ?, ?, 'hi')",
+                COMMENT_ID, POST_ID, USER_ID);
+        jdbcTemplate.update("INSERT INTO notifications (id, user_id, type, message) VALUES (?, ?, 'MENTION', 'hi')",
+                UUID.randomUUID(), USER_ID);
+        jdbcTemplate.update("INSERT INTO assets (post_id, asset_type, file_path, file_name, file_size) "
+                + "VALUES (?, 'IMAGE', '/tmp/a.png', 'a.png', 1)", POST_ID);
+    }
+}
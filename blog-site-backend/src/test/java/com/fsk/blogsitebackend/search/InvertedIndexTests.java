@@ -0,0 +1,64 @@
+package com.fsk.blogsitebackend.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class InvertedIndexTests {
+
+    private final InvertedIndex index = new InvertedIndex();
+
+    @Test
+    void lastTokenMatchesAsPrefixAndEveryTokenIsRequired() {
+        UUID spring = UUID.randomUUID();
+        UUID postgres = UUID.randomUUID();
+        index.upsert(spring, "Spring Boot ile REST API", "spring-boot", "Kısa bir giriş", List.of("java"));
+        index.upsert(postgres, "Postgres index tuning", "postgres", "Spring Data ile sorgular", List.of("sql"));
+
+        assertEquals(List.of(spring, postgres), postIds(index.search("spr", 10)));
+        assertEquals(List.of(spring), postIds(index.search("java spr", 10)));
+        assertTrue(index.search("kafka", 10).isEmpty());
+    }
+
+    @Test
+    void titleMatchesOutrankExcerptMatches() {
+        UUID inTitle = UUID.randomUUID();
+        UUID inExcerpt = UUID.randomUUID();
+        index.upsert(inExcerpt, "Notlar", "notlar", "docker compose ile geliştirme", List.of());
+        index.upsert(inTitle, "Docker compose", "docker", "notlar", List.of());
+
+        assertEquals(inTitle, index.search("docker", 10).get(0).postId());
+    }
+
+    @Test
+    void turkishCharactersAndDiacriticsAreFolded() {
+        UUID post = UUID.randomUUID();
+        index.upsert(post, "Işık Hızında Öğrenme", "isik", null, null);
+
+        assertEquals(List.of(post), postIds(index.search("isik hizinda", 10)));
+        assertEquals(List.of(post), postIds(index.search("ÖĞREN", 10)));
+    }
+
+    @Test
+    void updatesReplaceAndRemovesDropDocuments() {
+        UUID post = UUID.randomUUID();
+        for (int i = 0; i < 100; i++) {
+            index.upsert(post, "Revision " + i, "revision", null, List.of());
+        }
+        assertEquals(1, index.size());
+        assertEquals("Revision 99", index.search("revision", 10).get(0).title());
+        assertTrue(index.search("revision 98", 10).isEmpty());
+
+        index.remove(post);
+        assertEquals(0, index.size());
+        assertTrue(index.search("revision", 10).isEmpty());
+    }
+
+    private List<UUID> postIds(List<InvertedIndex.Hit> hits) {
+        return hits.stream().map(InvertedIndex.Hit::postId).toList();
+    }
+}
@@ -0,0 +1,51 @@
+package com.fsk.blogsitebackend.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.fsk.blogsitebackend.entities.PostEntity.PostStatus;
+import com.fsk.blogsitebackend.event.PostChangedEvent;
+import com.fsk.blogsitebackend.repository.PostRepository;
+import com.fsk.blogsitebackend.repository.projection.PostListView;
+
+class PostSearchIndexTests {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final PostSearchIndex postSearchIndex = new PostSearchIndex(postRepository);
+
+    @Test
+    void postPublishedWhileTheRebuildReadsIsNotLostInTheSwap() {
+        UUID postId = UUID.randomUUID();
+        PostListView view = publishedView(postId, "Kafka ile olay akışı");
+        when(postRepository.findTagNamesByPostIds(anyCollection())).thenReturn(List.of());
+        when(postRepository.findListViewById(postId)).thenReturn(Optional.of(view));
+        // The snapshot is read before the post commits; its change event lands before the swap
+        when(postRepository.findListViewsByStatus(PostStatus.PUBLISHED)).thenAnswer(invocation -> {
+            postSearchIndex.onPostChanged(PostChangedEvent.of(postId, "kafka"));
+            return List.of();
+        });
+
+        postSearchIndex.rebuild();
+
+        assertEquals(List.of(postId), postSearchIndex.search("kafka", 10).stream()
+                .map(InvertedIndex.Hit::postId)
+                .toList());
+    }
+
+    private static PostListView publishedView(UUID postId, String title) {
+        PostListView view = mock(PostListView.class);
+        when(view.getId()).thenReturn(postId);
+        when(view.getTitle()).thenReturn(title);
+        when(view.getSlug()).thenReturn("kafka");
+        when(view.getStatus()).thenReturn(PostStatus.PUBLISHED);
+        return view;
+    }
+}
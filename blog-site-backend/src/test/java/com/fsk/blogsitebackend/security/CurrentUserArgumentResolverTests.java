@@ -0,0 +1,112 @@
+package com.fsk.blogsitebackend.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.fsk.blogsitebackend.entities.User;
+import com.fsk.blogsitebackend.entities.User.UserRole;
+import com.fsk.blogsitebackend.repository.UserRepository;
+
+class CurrentUserArgumentResolverTests {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CurrentUserArgumentResolver resolver = new CurrentUserArgumentResolver(userRepository);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void principalComesFromTheSecurityContextWithoutAQuery() throws Exception {
+        AuthenticatedUser principal = authenticate();
+
+        Object resolved = resolver.resolveArgument(parameter("principal"), null, request(), null);
+
+        assertEquals(principal, resolved);
+        verify(userRepository, times(0)).findById(principal.id());
+    }
+
+    @Test
+    void entityIsLoadedOncePerRequest() throws Exception {
+        AuthenticatedUser principal = authenticate();
+        User user = new User();
+        when(userRepository.findById(principal.id())).thenReturn(Optional.of(user));
+        NativeWebRequest request = request();
+
+        Object first = resolver.resolveArgument(parameter("entity"), null, request, null);
+        Object second = resolver.resolveArgument(parameter("entity"), null, request, null);
+
+        assertSame(user, first);
+        assertSame(first, second);
+        verify(userRepository, times(1)).findById(principal.id());
+    }
+
+    @Test
+    void onlyAnnotatedParametersOfSupportedTypesAreResolved() throws Exception {
+        assertTrue(resolver.supportsParameter(parameter("principal")));
+        assertTrue(resolver.supportsParameter(parameter("entity")));
+        assertFalse(resolver.supportsParameter(parameter("unannotated")));
+    }
+
+    @Test
+    void anonymousRequestsAreRejected() {
+        assertThrows(AuthenticationCredentialsNotFoundException.class,
+                () -> resolver.resolveArgument(parameter("principal"), null, request(), null));
+    }
+
+    private AuthenticatedUser authenticate() {
+        AuthenticatedUser principal = new AuthenticatedUser(UUID.randomUUID(), "alice", UserRole.USER);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(principal, null,
+                List.of(new SimpleGrantedAuthority(UserRole.USER.name()))));
+        return principal;
+    }
+
+    private static NativeWebRequest request() {
+        return new ServletWebRequest(new MockHttpServletRequest());
+    }
+
+    private static MethodParameter parameter(String methodName) throws NoSuchMethodException {
+        for (var method : Handlers.class.getDeclaredMethods()) {
+            if (method.getName().equals(methodName)) {
+                return new MethodParameter(method, 0);
+            }
+        }
+        throw new NoSuchMethodException(methodName);
+    }
+
+    @SuppressWarnings("unused")
+    private static class Handlers {
+
+        void principal(@CurrentUser AuthenticatedUser user) {
+        }
+
+        void entity(@CurrentUser User user) {
+        }
+
+        void unannotated(AuthenticatedUser user) {
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.fsk.blogsitebackend.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.fsk.blogsitebackend.entities.User;
+import com.fsk.blogsitebackend.entities.User.UserRole;
+import com.fsk.blogsitebackend.event.UserChangedEvent;
+import com.fsk.blogsitebackend.repository.UserRepository;
+import com.fsk.blogsitebackend.repository.projection.UserStatusView;
+
+class JwtAuthenticationFilterTests {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+    private final JwtService jwtService = new JwtService(SECRET, 60_000, 100);
+    private final UserStatusCache userStatusCache = new UserStatusCache(userRepository, 30, 100);
+    private final StreamTicketStore streamTicketStore = new StreamTicketStore(30, 100);
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, userDetailsService,
+            userStatusCache, streamTicketStore);
+
+    private final UUID userId = UUID.randomUUID();
+    private final String token = jwtService.generateToken(Map.of(JwtService.CLAIM_USER_ID, userId.toString()),
+            user("alice"));
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void cacheHitAuthenticatesWithoutAnyUserQuery() throws Exception {
+        stubStatus(UserRole.ADMIN, false);
+
+        Authentication first = filter(token);
+        Authentication second = filter(token);
+
+        assertEquals(new AuthenticatedUser(userId, "alice", UserRole.ADMIN), first.getPrincipal());
+        assertEquals(first.getPrincipal(), second.getPrincipal());
+        assertEquals("ADMIN", second.getAuthorities().iterator().next().getAuthority());
+        // One status load for the first request, nothing for the cached second one
+        verify(userRepository, times(1)).findStatusById(userId);
+        verify(userRepository, never()).findByUsername(any());
+        verify(userDetailsService, never()).loadUserByUsername(any());
+    }
+
+    @Test
+    void userChangedEventEvictsSoABanOrDemotionAppliesToTheNextRequest() throws Exception {
+        stubStatus(UserRole.ADMIN, false);
+        filter(token);
+
+        stubStatus(UserRole.USER, false);
+        userStatusCache.onUserChanged(new UserChangedEvent(userId));
+        Authentication demoted = filter(token);
+
+        stubStatus(UserRole.USER, true);
+        userStatusCache.onUserChanged(new UserChangedEvent(userId));
+        Authentication locked = filter(token);
+
+        assertEquals("USER", demoted.getAuthorities().iterator().next().getAuthority());
+        assertNull(locked);
+        verify(userRepository, times(3)).findStatusById(userId);
+    }
+
+    @Test
+    void streamTicketOpensTheStreamOnceAndTheAccessTokenIsNotAcceptedInTheUrl() throws Exception {
+        stubStatus(UserRole.USER, false);
+        String ticket = streamTicketStore.issue(userId);
+
+        Authentication first = filterStream("ticket", ticket);
+        Authentication replayed = filterStream("ticket", ticket);
+        Authentication withAccessToken = filterStream("access_token", token);
+
+        assertEquals(new AuthenticatedUser(userId, "alice", UserRole.USER), first.getPrincipal());
+        assertNull(replayed);
+        assertNull(withAccessToken);
+    }
+
+    private Authentication filterStream(String parameter, String value) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/notifications/stream");
+        request.setServletPath("/notifications/stream");
+        request.addParameter(parameter, value);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private Authentication filter(String jwt) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/posts");
+        request.addHeader("Authorization", "Bearer " + jwt);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private static User user(String username) {
+        User user = new User();
+        user.setUsername(username);
+        return user;
+    }
+
+    private void stubStatus(UserRole role, boolean locked) {
+        UserStatusView view = mock(UserStatusView.class);
+        when(view.getUsername()).thenReturn("alice");
+        when(view.getRole()).thenReturn(role);
+        when(view.getEnabled()).thenReturn(true);
+        when(view.getLocked()).thenReturn(locked);
+        when(userRepository.findStatusById(userId)).thenReturn(Optional.of(view));
+    }
+}
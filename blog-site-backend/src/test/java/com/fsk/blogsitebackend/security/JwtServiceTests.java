@@ -0,0 +1,77 @@
+package com.fsk.blogsitebackend.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+class JwtServiceTests {
+
+    private static final String SECRET = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private final UserDetails alice = new User("alice", "secret", List.of());
+    private final UserDetails bob = new User("bob", "secret", List.of());
+
+    @Test
+    void repeatTokensAreServedFromTheVerifiedClaimsCache() {
+        JwtService jwtService = new JwtService(SECRET, 60_000, 100);
+        String token = jwtService.generateToken(alice);
+
+        Claims first = jwtService.extractAllClaims(token);
+        Claims second = jwtService.extractAllClaims(token);
+
+        assertSame(first, second);
+        assertEquals("alice", jwtService.extractUsername(token));
+        assertTrue(jwtService.isTokenValid(first, alice));
+        assertFalse(jwtService.isTokenValid(first, bob));
+    }
+
+    @Test
+    void tamperedTokensAreRejectedEvenAfterTheOriginalWasCached() {
+        JwtService jwtService = new JwtService(SECRET, 60_000, 100);
+        String token = jwtService.generateToken(alice);
+        jwtService.extractAllClaims(token);
+
+        String signature = token.substring(token.lastIndexOf('.') + 1);
+        String tampered = token.substring(0, token.lastIndexOf('.') + 1)
+                + (signature.charAt(0) == 'A' ? 'B' : 'A') + signature.substring(1);
+
+        assertThrows(SignatureException.class, () -> jwtService.extractAllClaims(tampered));
+    }
+
+    @Test
+    void expiredTokensAreNeitherAcceptedNorCached() {
+        JwtService jwtService = new JwtService(SECRET, -1_000, 100);
+        String token = jwtService.generateToken(alice);
+
+        assertThrows(ExpiredJwtException.class, () -> jwtService.extractAllClaims(token));
+        assertThrows(ExpiredJwtException.class, () -> jwtService.extractAllClaims(token));
+    }
+
+    @Test
+    void identityClaimsRoundTripAndLegacyTokensHaveNoUserId() {
+        JwtService jwtService = new JwtService(SECRET, 60_000, 100);
+        UUID userId = UUID.randomUUID();
+        String token = jwtService.generateToken(
+                Map.of(JwtService.CLAIM_USER_ID, userId.toString()), alice);
+
+        Claims claims = jwtService.extractAllClaims(token);
+
+        assertEquals(userId, jwtService.extractUserId(claims));
+        assertNull(jwtService.extractUserId(jwtService.extractAllClaims(jwtService.generateToken(bob))));
+    }
+}
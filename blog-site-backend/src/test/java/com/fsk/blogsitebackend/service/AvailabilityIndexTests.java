@@ -0,0 +1,77 @@
+package com.fsk.blogsitebackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.fsk.blogsitebackend.dto.booking.AvailabilitySlotResponse;
+import com.fsk.blogsitebackend.entities.AvailabilitySlot;
+import com.fsk.blogsitebackend.event.AvailabilityChangedEvent;
+import com.fsk.blogsitebackend.repository.AvailabilitySlotRepository;
+
+class AvailabilityIndexTests {
+
+    private final AvailabilitySlotRepository repository = mock(AvailabilitySlotRepository.class);
+    private final AvailabilityIndex index = new AvailabilityIndex(repository, 30);
+
+    private final LocalDateTime tomorrow = LocalDate.now().plusDays(1).atTime(9, 0);
+
+    @Test
+    void rangesInsideTheHorizonAreAnsweredFromMemory() {
+        when(repository.findBookableStartingFrom(any(), any()))
+                .thenReturn(List.of(slot(tomorrow), slot(tomorrow.plusHours(1)), slot(tomorrow.plusDays(1))));
+        index.rebuild();
+
+        List<AvailabilitySlotResponse> slots = index.find(tomorrow.minusHours(1), tomorrow.plusMinutes(90));
+
+        assertEquals(List.of(tomorrow, tomorrow.plusHours(1)),
+                slots.stream().map(AvailabilitySlotResponse::getStartAt).toList());
+        assertEquals(3, index.find(LocalDateTime.now().minusDays(3), tomorrow.plusDays(2)).size());
+        verify(repository, times(1)).findBookableStartingFrom(any(), any());
+        verify(repository, times(0)).findByStartAtBetweenAndIsActiveTrueAndIsBookedFalseOrderByStartAtAsc(any(), any());
+    }
+
+    @Test
+    void changedDaysAreReloadedAndOthersKept() {
+        when(repository.findBookableStartingFrom(any(), any()))
+                .thenReturn(List.of(slot(tomorrow), slot(tomorrow.plusDays(1))));
+        index.rebuild();
+
+        // The slot tomorrow was booked: reloading that day finds nothing
+        when(repository.findBookableStartingFrom(any(), any())).thenReturn(List.of());
+        index.onAvailabilityChanged(AvailabilityChangedEvent.at(tomorrow));
+
+        assertEquals(List.of(tomorrow.plusDays(1)), index.find(tomorrow.minusDays(1), tomorrow.plusDays(2)).stream()
+                .map(AvailabilitySlotResponse::getStartAt).toList());
+    }
+
+    @Test
+    void rangesPastTheHorizonFallBackToTheDatabase() {
+        when(repository.findBookableStartingFrom(any(), any())).thenReturn(List.of());
+        index.rebuild();
+        when(repository.findByStartAtBetweenAndIsActiveTrueAndIsBookedFalseOrderByStartAtAsc(any(), any()))
+                .thenReturn(List.of(slot(tomorrow.plusDays(60))));
+
+        assertEquals(1, index.find(tomorrow, tomorrow.plusDays(90)).size());
+    }
+
+    private static AvailabilitySlot slot(LocalDateTime startAt) {
+        AvailabilitySlot slot = new AvailabilitySlot();
+        slot.setId(UUID.randomUUID());
+        slot.setStartAt(startAt);
+        slot.setEndAt(startAt.plusMinutes(30));
+        slot.setPrice(new BigDecimal("100.00"));
+        return slot;
+    }
+}
@@ -0,0 +1,119 @@
+package com.fsk.blogsitebackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fsk.blogsitebackend.dto.booking.bookingrequest.GenerateAvailabilityRequest;
+import com.fsk.blogsitebackend.dto.booking.bookingrequest.WeeklyAvailabilityWindow;
+import com.fsk.blogsitebackend.support.BookingTestFixtures;
+
+@SpringBootTest
+class AvailabilitySlotGenerationTests {
+
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LocalDateTime monday;
+
+    @BeforeEach
+    void pickEmptyWeek() {
+        monday = LocalDateTime.of(BookingTestFixtures.farFutureYear(), 1, 1, 0, 0)
+                .with(TemporalAdjusters.next(DayOfWeek.MONDAY));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        BookingTestFixtures.deleteSlotsStartingBetween(jdbcTemplate, monday, monday.plusWeeks(3));
+    }
+
+    @Test
+    void continuousRangeIsFilledBackToBackAndRegenerationInsertsNothing() {
+        GenerateAvailabilityRequest request = request(monday.plusHours(9), monday.plusHours(11), 30);
+
+        assertEquals(4, availabilityService.generateSlots(request));
+        assertEquals(0, availabilityService.generateSlots(request));
+    }
+
+    @Test
+    void weeklyTemplateRepeatsOnMatchingDaysOnly() {
+        GenerateAvailabilityRequest request = request(monday, monday.plusWeeks(2), 60);
+        request.setWeeklyTemplate(List.of(
+                window(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(12, 0)),
+                window(DayOfWeek.FRIDAY, LocalTime.of(22, 0), LocalTime.MIDNIGHT)));
+
+        // two Mondays x 3 slots + two Fridays x 2 slots
+        assertEquals(10, availabilityService.generateSlots(request));
+        assertEquals(0, availabilityService.generateSlots(request));
+    }
+
+    @Test
+    void slotsOverlappingExistingOnesAreSkipped() {
+        availabilityService.generateSlots(request(monday.plusHours(9), monday.plusHours(10), 60));
+
+        // 08:30-09:00 and 10:00-10:30 fit around the existing 09:00-10:00 slot
+        assertEquals(2, availabilityService.generateSlots(request(monday.plusHours(8).plusMinutes(30),
+                monday.plusHours(10).plusMinutes(30), 30)));
+    }
+
+    @Test
+    void slotsOfTheLongestAllowedLengthStillBlockTheirWholeSpan() {
+        availabilityService.generateSlots(request(monday.plusHours(9), monday.plusHours(17), 480));
+
+        // The overlap probe only looks back 8 hours from each candidate: 16:00 and 16:30 are still caught
+        assertEquals(2, availabilityService.generateSlots(request(monday.plusHours(16), monday.plusHours(18), 30)));
+    }
+
+    @Test
+    void overlappingWindowsOnTheSameDayAreRejected() {
+        GenerateAvailabilityRequest request = request(monday, monday.plusWeeks(1), 30);
+        request.setWeeklyTemplate(List.of(
+                window(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(11, 0)),
+                window(DayOfWeek.TUESDAY, LocalTime.of(9, 0), LocalTime.of(11, 0)),
+                window(DayOfWeek.MONDAY, LocalTime.of(10, 45), LocalTime.of(12, 0))));
+
+        assertThrows(IllegalArgumentException.class, () -> availabilityService.generateSlots(request));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM availability_slots WHERE start_at >= ? AND start_at < ?", Long.class,
+                monday, monday.plusWeeks(1)));
+
+        // Touching windows are fine: 09:00-11:00 and 11:00-12:00 give 6 slots
+        request.setWeeklyTemplate(List.of(
+                window(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(11, 0)),
+                window(DayOfWeek.MONDAY, LocalTime.of(11, 0), LocalTime.of(12, 0))));
+        assertEquals(6, availabilityService.generateSlots(request));
+    }
+
+    private static GenerateAvailabilityRequest request(LocalDateTime startAt, LocalDateTime endAt, int slotMinutes) {
+        GenerateAvailabilityRequest request = new GenerateAvailabilityRequest();
+        request.setStartAt(startAt);
+        request.setEndAt(endAt);
+        request.setPrice(new BigDecimal("100.00"));
+        request.setSlotMinutes(slotMinutes);
+        return request;
+    }
+
+    private static WeeklyAvailabilityWindow window(DayOfWeek day, LocalTime startTime, LocalTime endTime) {
+        WeeklyAvailabilityWindow window = new WeeklyAvailabilityWindow();
+        window.setDayOfWeek(day);
+        window.setStartTime(startTime);
+        window.setEndTime(endTime);
+        return window;
+    }
+}
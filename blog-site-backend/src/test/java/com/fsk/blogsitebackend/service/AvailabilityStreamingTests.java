@@ -0,0 +1,82 @@
+package com.fsk.blogsitebackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fsk.blogsitebackend.common.exception.AvailabilityStreamLimitException;
+import com.fsk.blogsitebackend.dto.booking.bookingrequest.GenerateAvailabilityRequest;
+import com.fsk.blogsitebackend.support.BookingTestFixtures;
+
+@SpringBootTest(properties = "booking.availability.max-concurrent-streams=1")
+class AvailabilityStreamingTests {
+
+    @Autowired
+    private AvailabilityService availabilityService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LocalDateTime from;
+
+    @BeforeEach
+    void seedSlots() {
+        from = LocalDateTime.of(BookingTestFixtures.farFutureYear(), 3, 1, 0, 0);
+        GenerateAvailabilityRequest request = new GenerateAvailabilityRequest();
+        request.setStartAt(from);
+        request.setEndAt(from.plusDays(3));
+        request.setPrice(new BigDecimal("100.00"));
+        request.setSlotMinutes(60);
+        availabilityService.generateSlots(request);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        BookingTestFixtures.deleteSlotsStartingBetween(jdbcTemplate, from, from.plusDays(3));
+    }
+
+    @Test
+    void streamWritesOneJsonLinePerSlotInStartOrder() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        availabilityService.streamPublicAvailability(from, from.plusDays(3)).writeTo(out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(72, lines.size());
+        assertTrue(lines.get(0).startsWith("{") && lines.get(0).contains(from.toString().substring(0, 10)));
+    }
+
+    @Test
+    void oversizedRangesAreRejectedBeforeAnythingIsRead() {
+        assertThrows(IllegalArgumentException.class,
+                () -> availabilityService.getPublicAvailability(from, from.plusYears(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> availabilityService.streamPublicAvailability(from, from.plusYears(20)));
+    }
+
+    @Test
+    void streamsOverTheLimitAreRejectedUntilARunningOneFinishes() throws Exception {
+        StreamingResponseBody running = availabilityService.streamPublicAvailability(from, from.plusDays(1));
+
+        assertThrows(AvailabilityStreamLimitException.class,
+                () -> availabilityService.streamPublicAvailability(from, from.plusDays(1)));
+
+        running.writeTo(OutputStream.nullOutputStream());
+        availabilityService.streamPublicAvailability(from, from.plusDays(1)).writeTo(OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,102 @@
+package com.fsk.blogsitebackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.mail.internet.MimeMessage;
+
+import com.fsk.blogsitebackend.common.exception.SlotAlreadyBookedException;
+import com.fsk.blogsitebackend.dto.booking.bookingrequest.CreateBookingRequest;
+import com.fsk.blogsitebackend.entities.AvailabilitySlot;
+import com.fsk.blogsitebackend.repository.AvailabilitySlotRepository;
+import com.fsk.blogsitebackend.support.BookingTestFixtures;
+import com.fsk.blogsitebackend.support.MockedMailSenderTest;
+
+@SpringBootTest
+class BookingConcurrencyTests extends MockedMailSenderTest {
+
+    private static final int CONTENDERS = 1000;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private AvailabilitySlotRepository availabilitySlotRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AvailabilitySlot slot;
+
+    @BeforeEach
+    void seedSlot() {
+        slot = BookingTestFixtures.saveFarFutureSlot(availabilitySlotRepository);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        BookingTestFixtures.deleteSlotWithBookings(jdbcTemplate, slot.getId());
+    }
+
+    @Test
+    void exactlyOneOfManyConcurrentBookingsWinsTheSlot() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger winners = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONTENDERS; i++) {
+                int contender = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        bookingService.createBooking(request(contender));
+                        winners.incrementAndGet();
+                    } catch (SlotAlreadyBookedException e) {
+                        conflicts.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertEquals(1, winners.get());
+        assertEquals(CONTENDERS - 1, conflicts.get());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM bookings WHERE availability_slot_id = ?", Integer.class, slot.getId()));
+        // Losers never got as far as the owner email; the winner's goes out on a background thread
+        verify(mailSender, timeout(5_000).times(1)).send(any(MimeMessage.class));
+    }
+
+    private CreateBookingRequest request(int contender) {
+        CreateBookingRequest request = new CreateBookingRequest();
+        request.setSlotId(slot.getId());
+        request.setName("Client " + contender);
+        request.setEmail("client" + contender + "@example.com");
+        request.setTitle("Consultation " + contender);
+        request.setDescription("Concurrent booking " + contender);
+        return request;
+    }
+}
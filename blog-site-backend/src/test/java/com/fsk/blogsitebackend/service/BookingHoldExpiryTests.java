@@ -0,0 +1,93 @@
+package com.fsk.blogsitebackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fsk.blogsitebackend.common.exception.BookingHoldExpiredException;
+import com.fsk.blogsitebackend.dto.booking.BookingResponse;
+import com.fsk.blogsitebackend.dto.booking.bookingrequest.CreateBookingRequest;
+import com.fsk.blogsitebackend.entities.AvailabilitySlot;
+import com.fsk.blogsitebackend.repository.AvailabilitySlotRepository;
+import com.fsk.blogsitebackend.support.BookingTestFixtures;
+import com.fsk.blogsitebackend.support.MockedMailSenderTest;
+
+@SpringBootTest
+class BookingHoldExpiryTests extends MockedMailSenderTest {
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingHoldExpiryScheduler holdExpiryScheduler;
+
+    @Autowired
+    private AvailabilitySlotRepository availabilitySlotRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private AvailabilitySlot slot;
+
+    @BeforeEach
+    void seedSlot() {
+        slot = BookingTestFixtures.saveFarFutureSlot(availabilitySlotRepository);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        BookingTestFixtures.deleteSlotWithBookings(jdbcTemplate, slot.getId());
+    }
+
+    @Test
+    void expiredHoldIsCancelledAndTheSlotCanBeBookedAgain() {
+        BookingResponse expired = bookingService.createBooking(request());
+        assertNotNull(expired.getHoldExpiresAt());
+        jdbcTemplate.update("UPDATE bookings SET hold_expires_at = ? WHERE id = ?",
+                LocalDateTime.now().minusMinutes(1), expired.getId());
+
+        assertTrue(holdExpiryScheduler.releaseExpiredHolds() >= 1);
+
+        assertEquals("CANCELLED", jdbcTemplate.queryForObject("SELECT status FROM bookings WHERE id = ?",
+                String.class, expired.getId()));
+        assertFalse(jdbcTemplate.queryForObject("SELECT is_booked FROM availability_slots WHERE id = ?",
+                Boolean.class, slot.getId()));
+
+        BookingResponse rebooked = bookingService.createBooking(request());
+        assertEquals(slot.getId(), rebooked.getSlotId());
+        assertThrows(BookingHoldExpiredException.class, () -> bookingService.markAsPaid(expired.getId(), "PAY-late"));
+    }
+
+    @Test
+    void holdsThatHaveNotExpiredAreLeftAlone() {
+        BookingResponse pending = bookingService.createBooking(request());
+
+        holdExpiryScheduler.releaseExpiredHolds();
+
+        assertEquals("PENDING_PAYMENT", jdbcTemplate.queryForObject("SELECT status FROM bookings WHERE id = ?",
+                String.class, pending.getId()));
+        assertTrue(jdbcTemplate.queryForObject("SELECT is_booked FROM availability_slots WHERE id = ?",
+                Boolean.class, slot.getId()));
+    }
+
+    private CreateBookingRequest request() {
+        CreateBookingRequest request = new CreateBookingRequest();
+        request.setSlotId(slot.getId());
+        request.setName("Hold Client");
+        request.setEmail("hold-client@example.com");
+        request.setTitle("Hold expiry check");
+        request.setDescription("Booking used by the hold expiry test");
+        return request;
+    }
+}
@@ -0,0 +1,162 @@
+package com.fsk.blogsitebackend.service;
+
+import static com.fsk.blogsitebackend.support.TestFixtures.countQueries;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.fsk.blogsitebackend.common.CursorPage;
+import com.fsk.blogsitebackend.dto.comment.CommentResponse;
+import com.fsk.blogsitebackend.entities.PostComment;
+import com.fsk.blogsitebackend.entities.PostEntity;
+import com.fsk.blogsitebackend.entities.PostEntity.PostStatus;
+import com.fsk.blogsitebackend.entities.User;
+import com.fsk.blogsitebackend.repository.PostCommentRepository;
+import com.fsk.blogsitebackend.repository.PostRepository;
+import com.fsk.blogsitebackend.repository.UserRepository;
+import com.fsk.blogsitebackend.support.TestFixtures;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CommentTreeQueryCountTests {
+
+    private static final int AUTHOR_COUNT = 5;
+    private static final int TOP_LEVEL_COUNT = 20;
+    private static final int REPLIES_PER_COMMENT = 3;
+
+    @Autowired
+    private PostCommentService postCommentService;
+
+    @Autowired
+    private PostCommentRepository postCommentRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<User> authors = new ArrayList<>();
+    private PostEntity post;
+
+    @BeforeEach
+    void seed() {
+        String suffix = TestFixtures.uniqueSuffix();
+
+        for (int i = 0; i < AUTHOR_COUNT; i++) {
+            authors.add(TestFixtures.saveUser(userRepository, "ct-" + suffix + "-" + i, "Comment", "Author " + i));
+        }
+
+        post = new PostEntity();
+        post.setTitle("Comment tree post");
+        post.setSlug("ct-post-" + suffix);
+        post.setContent("content");
+        post.setStatus(PostStatus.PUBLISHED);
+        post.setAuthor(authors.get(0));
+        post = postRepository.save(post);
+
+        for (int i = 0; i < TOP_LEVEL_COUNT; i++) {
+            PostComment comment = newComment(null, i);
+            for (int r = 0; r < REPLIES_PER_COMMENT; r++) {
+                PostComment reply = newComment(comment, i + r + 1);
+                if (r == 0) {
+                    newComment(reply, i + r + 2);
+                }
+            }
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        // Comments go with the post through ON DELETE CASCADE
+        postRepository.delete(post);
+        userRepository.deleteAll(authors);
+    }
+
+    @Test
+    void commentTreeIsBuiltFromOneResultSet() {
+        List<List<CommentResponse>> holder = new ArrayList<>();
+        long queries = countQueries(entityManagerFactory,
+                () -> holder.add(postCommentService.getCommentsForPost(post.getSlug())));
+
+        // post id lookup + the tree query
+        assertEquals(2, queries);
+
+        List<CommentResponse> roots = holder.get(0);
+        assertEquals(TOP_LEVEL_COUNT, roots.size());
+        for (CommentResponse root : roots) {
+            assertEquals(REPLIES_PER_COMMENT, root.getReplies().size());
+            root.getReplies().forEach(reply -> assertEquals(root.getId(), reply.getParentId()));
+            assertEquals(1, root.getReplies().stream().mapToInt(reply -> reply.getReplies().size()).sum());
+            assertEquals("Comment", root.getAuthor().getFullName().split(" ")[0]);
+        }
+    }
+
+    @Test
+    void threadsArePagedWithTheirFirstRepliesInOneQueryPerPage() {
+        Set<UUID> seen = new HashSet<>();
+        String cursor = "";
+        int pages = 0;
+        do {
+            String current = cursor;
+            List<CursorPage<CommentResponse>> holder = new ArrayList<>();
+            long queries = countQueries(entityManagerFactory,
+                    () -> holder.add(postCommentService.getCommentThreads(post.getSlug(), current, 8, 2)));
+            // post id lookup + the thread page
+            assertEquals(2, queries);
+            CursorPage<CommentResponse> page = holder.get(0);
+            for (CommentResponse root : page.getContent()) {
+                assertTrue(seen.add(root.getId()));
+                assertEquals(REPLIES_PER_COMMENT, root.getReplyCount());
+                assertEquals(2, root.getReplies().size());
+            }
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(TOP_LEVEL_COUNT, seen.size());
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void loadMoreRepliesWalksTheDirectRepliesOfOneComment() {
+        CommentResponse root = postCommentService.getCommentThreads(post.getSlug(), "", 1, 0).getContent().get(0);
+
+        CursorPage<CommentResponse> first = postCommentService.getReplies(post.getSlug(), root.getId(), null, 2);
+        CursorPage<CommentResponse> second = postCommentService.getReplies(post.getSlug(), root.getId(),
+                first.getNextCursor(), 2);
+
+        assertEquals(2, first.getContent().size());
+        assertTrue(first.isHasNext());
+        assertEquals(1, second.getContent().size());
+        assertFalse(second.isHasNext());
+        assertEquals(1, Stream.concat(first.getContent().stream(), second.getContent().stream())
+                .mapToLong(CommentResponse::getReplyCount).sum());
+    }
+
+    private PostComment newComment(PostComment parent, int authorIndex) {
+        PostComment comment = new PostComment();
+        comment.setPost(post);
+        comment.setAuthor(authors.get(authorIndex % AUTHOR_COUNT));
+        comment.setParentComment(parent);
+        comment.setContent("comment " + authorIndex);
+        return postCommentRepository.save(comment);
+    }
+}
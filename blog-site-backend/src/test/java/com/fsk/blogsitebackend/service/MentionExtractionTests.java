@@ -0,0 +1,37 @@
+package com.fsk.blogsitebackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class MentionExtractionTests {
+
+    @Test
+    void extractsUsernamesInOrderWithoutDuplicates() {
+        Set<String> usernames = PostCommentService
+                .extractMentionedUsernames("@alice thanks, cc @bob_2 and @alice again (@carol).");
+
+        assertEquals(List.of("alice", "bob_2", "carol"), List.copyOf(usernames));
+    }
+
+    @Test
+    void ignoresBareAtSignsAndStopsAtNonWordCharacters() {
+        Set<String> usernames = PostCommentService.extractMentionedUsernames("@ @@ mail@example.com @dave-smith @");
+
+        assertEquals(List.of("example", "dave"), List.copyOf(usernames));
+    }
+
+    @Test
+    void capsTheNumberOfMentions() {
+        String content = IntStream.range(0, 200).mapToObj(i -> "@user" + i).collect(Collectors.joining(" "));
+
+        assertEquals(50, PostCommentService.extractMentionedUsernames(content).size());
+        assertTrue(PostCommentService.extractMentionedUsernames(null).isEmpty());
+    }
+}
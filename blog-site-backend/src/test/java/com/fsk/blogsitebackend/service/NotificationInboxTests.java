@@ -0,0 +1,135 @@
+package com.fsk.blogsitebackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fsk.blogsitebackend.common.CursorPage;
+import com.fsk.blogsitebackend.dto.user.NotificationResponse;
+import com.fsk.blogsitebackend.entities.User;
+import com.fsk.blogsitebackend.repository.UserRepository;
+import com.fsk.blogsitebackend.support.TestFixtures;
+
+@SpringBootTest(properties = "blog.notifications.retention.batch-size=2")
+class NotificationInboxTests {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRetentionJob notificationRetentionJob;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void seed() {
+        user = TestFixtures.saveUser(userRepository, "inbox-" + TestFixtures.uniqueSuffix());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        // Notifications go with the user through ON DELETE CASCADE
+        userRepository.delete(user);
+    }
+
+    @Test
+    void keysetPagesWalkRowsSharingOneCreatedAtExactlyOnce() {
+        LocalDateTime createdAt = LocalDateTime.now().withNano(0);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            ids.add(insert(createdAt, i % 2 == 0));
+        }
+
+        List<UUID> walked = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<NotificationResponse> page = notificationService.getNotificationsForUser(user.getId(), cursor,
+                    3, false);
+            page.getContent().forEach(notification -> walked.add(notification.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Ties on created_at are broken by id, descending; Postgres orders uuids like their hex strings
+        ids.sort(Comparator.comparing(UUID::toString).reversed());
+        assertEquals(ids, walked);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void unreadOnlySkipsReadNotificationsAcrossPages() {
+        LocalDateTime now = LocalDateTime.now();
+        Set<UUID> unread = new HashSet<>();
+        for (int i = 0; i < 6; i++) {
+            UUID id = insert(now.minusMinutes(i), i % 3 == 0);
+            if (i % 3 != 0) {
+                unread.add(id);
+            }
+        }
+
+        CursorPage<NotificationResponse> first = notificationService.getNotificationsForUser(user.getId(), null, 3,
+                true);
+        CursorPage<NotificationResponse> second = notificationService.getNotificationsForUser(user.getId(),
+                first.getNextCursor(), 3, true);
+
+        assertTrue(first.isHasNext());
+        assertFalse(second.isHasNext());
+        Set<UUID> seen = new HashSet<>();
+        for (NotificationResponse notification : first.getContent()) {
+            assertFalse(notification.getIsRead());
+            seen.add(notification.getId());
+        }
+        for (NotificationResponse notification : second.getContent()) {
+            assertFalse(notification.getIsRead());
+            seen.add(notification.getId());
+        }
+        assertEquals(unread, seen);
+    }
+
+    @Test
+    void retentionDeletesOldReadRowsInBatchesAndKeepsUnreadOnes() {
+        LocalDateTime old = LocalDateTime.now().minusDays(365);
+        for (int i = 0; i < 5; i++) {
+            insert(old.minusMinutes(i), true);
+        }
+        UUID oldUnread = insert(old, false);
+        UUID recentRead = insert(LocalDateTime.now(), true);
+
+        // Five old read rows with a batch size of two: only a job that keeps going after full batches gets them all
+        notificationRetentionJob.purgeReadNotifications();
+
+        List<UUID> remaining = jdbcTemplate.queryForList("SELECT id FROM notifications WHERE user_id = ?", UUID.class,
+                user.getId());
+        assertEquals(Set.of(oldUnread, recentRead), new HashSet<>(remaining));
+    }
+
+    private UUID insert(LocalDateTime createdAt, boolean read) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO notifications (id, user_id, type, message, is_read, created_at) "
+                + "VALUES (?, ?, 'MENTION', 'hi', ?, ?)", id, user.getId(), read, Timestamp.valueOf(createdAt));
+        return id;
+    }
+}
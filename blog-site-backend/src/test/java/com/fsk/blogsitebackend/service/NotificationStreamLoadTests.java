@@ -0,0 +1,122 @@
+package com.fsk.blogsitebackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.fsk.blogsitebackend.entities.User;
+import com.fsk.blogsitebackend.repository.UserRepository;
+import com.fsk.blogsitebackend.security.JwtService;
+import com.fsk.blogsitebackend.support.TestFixtures;
+
+// Holds 10k concurrent notification streams against a real server and pushes one event through all of them.
+// Needs ~20k file descriptors (client and server sockets live in this JVM), so it only runs on request:
+// ulimit -n 65536 && mvn test -Dtest=NotificationStreamLoadTests -Dblog.load-tests=true
+@EnabledIfSystemProperty(named = "blog.load-tests", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.tomcat.max-connections=12000",
+        "blog.notifications.stream.max-per-user=" + NotificationStreamLoadTests.STREAM_COUNT,
+        "blog.notifications.stream.heartbeat-ms=5000" })
+class NotificationStreamLoadTests {
+
+    static final int STREAM_COUNT = 10_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private NotificationStreamHub notificationStreamHub;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtService jwtService;
+
+    private User user;
+
+    @BeforeEach
+    void seed() {
+        user = TestFixtures.saveUser(userRepository, "sse-" + TestFixtures.uniqueSuffix());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.delete(user);
+    }
+
+    @Test
+    void holdsTenThousandStreamsAndDeliversToAllOfThem() throws Exception {
+        String token = jwtService.generateToken(user);
+        // A stream ticket is single-use, so the clients authenticate with the header instead
+        URI uri = URI.create("http://localhost:" + port + "/api/notifications/stream");
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        CountDownLatch connected = new CountDownLatch(STREAM_COUNT);
+        CountDownLatch delivered = new CountDownLatch(STREAM_COUNT);
+
+        // One virtual thread per client stream, blocking on its line reader like a real EventSource would
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < STREAM_COUNT; i++) {
+                clients.execute(() -> readStream(client, uri, token, connected, delivered));
+            }
+
+            assertTrue(connected.await(2, TimeUnit.MINUTES), "streams still connecting: " + connected.getCount());
+            assertEquals(STREAM_COUNT, notificationStreamHub.activeStreams());
+            // Idle streams must not hold platform threads (ThreadMXBean does not count virtual threads)
+            int platformThreads = ManagementFactory.getThreadMXBean().getThreadCount();
+            assertTrue(platformThreads < 500, "platform threads: " + platformThreads);
+
+            notificationStreamHub.publish(user.getId(), NotificationStreamHub.NOTIFICATION_EVENT,
+                    Map.of("message", "load test"));
+            assertTrue(delivered.await(1, TimeUnit.MINUTES), "streams still waiting: " + delivered.getCount());
+
+            notificationStreamHub.shutdown();
+            clients.shutdownNow();
+        }
+    }
+
+    private static void readStream(HttpClient client, URI uri, String token, CountDownLatch connected,
+            CountDownLatch delivered) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Accept", "text/event-stream")
+                .header("Authorization", "Bearer " + token)
+                .build();
+        try {
+            HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+            try (Stream<String> lines = response.body()) {
+                lines.forEach(line -> {
+                    if (line.equals("event:" + NotificationStreamHub.UNREAD_COUNT_EVENT)) {
+                        connected.countDown();
+                    } else if (line.equals("event:" + NotificationStreamHub.NOTIFICATION_EVENT)) {
+                        delivered.countDown();
+                    }
+                });
+            }
+        } catch (Exception e) {
+            // Stream closed at the end of the test
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.fsk.blogsitebackend.service;
+
+import static com.fsk.blogsitebackend.support.TestFixtures.countQueries;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.fsk.blogsitebackend.common.CursorPage;
+import com.fsk.blogsitebackend.common.ResourceVersion;
+import com.fsk.blogsitebackend.dto.post.PostResponse;
+import com.fsk.blogsitebackend.dto.post.PostSummaryResponse;
+import com.fsk.blogsitebackend.entities.PostEntity;
+import com.fsk.blogsitebackend.entities.PostEntity.PostStatus;
+import com.fsk.blogsitebackend.entities.TagEntity;
+import com.fsk.blogsitebackend.entities.User;
+import com.fsk.blogsitebackend.repository.PostRepository;
+import com.fsk.blogsitebackend.repository.TagRepository;
+import com.fsk.blogsitebackend.repository.UserRepository;
+import com.fsk.blogsitebackend.support.TestFixtures;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PostListingQueryCountTests {
+
+    private static final int POST_COUNT = 12;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<PostEntity> posts = new ArrayList<>();
+    private User author;
+    private TagEntity tag;
+    private TagEntity otherTag;
+
+    @BeforeEach
+    void seed() {
+        String suffix = TestFixtures.uniqueSuffix();
+
+        author = TestFixtures.saveUser(userRepository, "qc-" + suffix, "Query", "Count");
+
+        tag = newTag("qc-tag-" + suffix);
+        otherTag = newTag("qc-other-" + suffix);
+
+        for (int i = 0; i < POST_COUNT; i++) {
+            PostEntity post = new PostEntity();
+            post.setTitle("Query count post " + i);
+            post.setSlug("qc-post-" + suffix + "-" + i);
+            post.setContent("content " + i);
+            post.setExcerpt("excerpt " + i);
+            post.setStatus(PostStatus.PUBLISHED);
+            post.setPublishedAt(LocalDateTime.now().minusMinutes(i));
+            post.setAuthor(author);
+            post.setTags(Set.of(tag, otherTag));
+            posts.add(postRepository.save(post));
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        postRepository.deleteAll(posts);
+        tagRepository.deleteAll(List.of(tag, otherTag));
+        userRepository.delete(author);
+    }
+
+    @Test
+    void listingPageCostsTheSameNumberOfQueriesRegardlessOfPageSize() {
+        long smallPageQueries = countQueries(entityManagerFactory, () -> {
+            List<PostSummaryResponse> content = postService
+                    .getFilteredPostSummaries(null, tag.getSlug(), null, false, 0, 2).getContent();
+            assertEquals(2, content.size());
+            assertEquals(2, content.get(0).getTags().size());
+            assertEquals("Query Count", content.get(0).getAuthor().getFullName());
+        });
+
+        long fullPageQueries = countQueries(entityManagerFactory, () -> {
+            List<PostSummaryResponse> content = postService
+                    .getFilteredPostSummaries(null, tag.getSlug(), null, false, 0, POST_COUNT).getContent();
+            assertEquals(POST_COUNT, content.size());
+            content.forEach(post -> assertEquals(2, post.getTags().size()));
+        });
+
+        // page + count + batched tag names
+        assertEquals(3, smallPageQueries);
+        assertEquals(smallPageQueries, fullPageQueries);
+    }
+
+    @Test
+    void fullListingLoadsContentInOneBatchedQuery() {
+        long queries = countQueries(entityManagerFactory, () -> {
+            List<PostResponse> content = postService.getFilteredPosts(null, tag.getSlug(), null, false, 0, POST_COUNT)
+                    .getContent();
+            assertEquals(POST_COUNT, content.size());
+            content.forEach(post -> assertNotNull(post.getContent()));
+        });
+
+        // page + count + batched tag names + batched contents
+        assertEquals(4, queries);
+    }
+
+    @Test
+    void cursorListingWalksEveryPostOnceWithoutCountQueries() {
+        Set<UUID> seen = new HashSet<>();
+        String cursor = "";
+        int pages = 0;
+        do {
+            String current = cursor;
+            List<CursorPage<PostSummaryResponse>> holder = new ArrayList<>();
+            long queries = countQueries(entityManagerFactory,
+                    () -> holder.add(postService.getPostSummariesAfter(null, tag.getSlug(), current, 5)));
+            // page + batched tag names
+            assertEquals(2, queries);
+            CursorPage<PostSummaryResponse> page = holder.get(0);
+            page.getContent().forEach(post -> assertTrue(seen.add(post.getId())));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(POST_COUNT, seen.size());
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void cursorListingReturnsTheSamePostsAsOffsetListingIncludingDrafts() {
+        for (int i = 0; i < 3; i++) {
+            PostEntity draft = posts.get(i);
+            draft.setStatus(PostStatus.DRAFT);
+            draft.setPublishedAt(null);
+            posts.set(i, postRepository.save(draft));
+        }
+
+        List<UUID> offsetIds = postService.getFilteredPostSummaries(null, tag.getSlug(), null, false, 0, POST_COUNT)
+                .getContent().stream().map(PostSummaryResponse::getId).toList();
+        List<UUID> cursorIds = new ArrayList<>();
+        String cursor = "";
+        do {
+            CursorPage<PostSummaryResponse> page = postService.getPostSummariesAfter(null, tag.getSlug(), cursor, 2);
+            page.getContent().forEach(post -> cursorIds.add(post.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(POST_COUNT, cursorIds.size());
+        assertEquals(new HashSet<>(offsetIds), new HashSet<>(cursorIds));
+        // Drafts come first in both modes
+        assertEquals(new HashSet<>(offsetIds.subList(0, 3)), new HashSet<>(cursorIds.subList(0, 3)));
+    }
+
+    @Test
+    void postVersionIsOneQueryThatAlsoTracksTagsAndAuthor() {
+        String slug = posts.get(0).getSlug();
+        List<ResourceVersion> versions = new ArrayList<>();
+
+        long queries = countQueries(entityManagerFactory,
+                () -> versions.add(postService.recordViewAndGetVersion(slug)));
+        tag.setName(tag.getName() + "-renamed");
+        tag = tagRepository.save(tag);
+        versions.add(postService.recordViewAndGetVersion(slug));
+
+        assertEquals(1, queries);
+        // post + two tags + author
+        assertEquals(4, versions.get(0).getCount());
+        assertNotEquals(versions.get(0).eTag(), versions.get(1).eTag());
+        assertTrue(postService.recordViewAndGetVersion("missing-" + slug).isEmpty());
+    }
+
+    private TagEntity newTag(String slug) {
+        TagEntity newTag = new TagEntity();
+        newTag.setName(slug);
+        newTag.setSlug(slug);
+        return tagRepository.save(newTag);
+    }
+}
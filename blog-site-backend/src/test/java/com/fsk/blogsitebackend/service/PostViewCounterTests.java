@@ -0,0 +1,66 @@
+package com.fsk.blogsitebackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PostViewCounterTests {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PostViewCounter counter = new PostViewCounter(jdbcTemplate, meterRegistry);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void flushWritesOneBatchWithAccumulatedDeltas() {
+        UUID hot = UUID.randomUUID();
+        UUID cold = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            counter.record(hot);
+        }
+        counter.record(cold);
+        assertEquals(6.0, meterRegistry.get("blog.posts.views.pending").gauge().value());
+
+        counter.flush();
+
+        ArgumentCaptor<List<Object[]>> batch = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(eq("UPDATE posts SET view_count = view_count + ? WHERE id = ?"),
+                batch.capture());
+        assertEquals(2, batch.getValue().size());
+        batch.getValue().forEach(args -> assertEquals(args[1].equals(hot) ? 5L : 1L, args[0]));
+        assertEquals(0, counter.pendingCount());
+    }
+
+    @Test
+    void failedFlushKeepsCountsForTheNextAttempt() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new QueryTimeoutException("timeout"));
+        counter.record(UUID.randomUUID());
+        counter.record(UUID.randomUUID());
+
+        counter.flush();
+
+        assertEquals(2, counter.pendingCount());
+    }
+
+    @Test
+    void emptyFlushDoesNotTouchTheDatabase() {
+        counter.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+}
@@ -0,0 +1,119 @@
+package com.fsk.blogsitebackend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fsk.blogsitebackend.entities.User;
+import com.fsk.blogsitebackend.repository.UserRepository;
+import com.fsk.blogsitebackend.support.TestFixtures;
+
+@SpringBootTest
+class UnreadNotificationCounterTests {
+
+    private static final int NOTIFICATION_COUNT = 3;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<UUID> notificationIds = new ArrayList<>();
+    private User user;
+
+    @BeforeEach
+    void seed() {
+        user = TestFixtures.saveUser(userRepository, "unc-" + TestFixtures.uniqueSuffix());
+
+        for (int i = 0; i < NOTIFICATION_COUNT; i++) {
+            UUID id = UUID.randomUUID();
+            jdbcTemplate.update("INSERT INTO notifications (id, user_id, type, message) VALUES (?, ?, 'MENTION', ?)",
+                    id, user.getId(), "notification " + i);
+            notificationIds.add(id);
+        }
+        jdbcTemplate.update("INSERT INTO user_notification_counters (user_id, unread_count) VALUES (?, ?)",
+                user.getId(), NOTIFICATION_COUNT);
+    }
+
+    @AfterEach
+    void cleanUp() {
+        // Notifications and the counter row go with the user through ON DELETE CASCADE
+        userRepository.delete(user);
+    }
+
+    @Test
+    void concurrentReadsOfTheSameNotificationDecrementOnce() throws Exception {
+        UUID notificationId = notificationIds.get(0);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                notificationService.markAsRead(notificationId, user.getId());
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(NOTIFICATION_COUNT - 1, notificationService.getUnreadCount(user.getId()));
+    }
+
+    @Test
+    void readAndReadAllRacingEachOtherNeitherDeadlockNorMiscount() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(NOTIFICATION_COUNT + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (UUID notificationId : notificationIds) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                notificationService.markAsRead(notificationId, user.getId());
+                return null;
+            }));
+        }
+        futures.add(executor.submit(() -> {
+            start.await();
+            notificationService.markAllAsRead(user.getId());
+            return null;
+        }));
+        start.countDown();
+        // A deadlock would surface here as an ExecutionException from one of the transactions
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(0, notificationService.getUnreadCount(user.getId()));
+    }
+
+    @Test
+    void markAllAsReadResetsTheCounter() {
+        notificationService.markAsRead(notificationIds.get(1), user.getId());
+        notificationService.markAllAsRead(user.getId());
+
+        assertEquals(0, notificationService.getUnreadCount(user.getId()));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notifications WHERE user_id = ? AND is_read = false", Long.class, user.getId()));
+    }
+}
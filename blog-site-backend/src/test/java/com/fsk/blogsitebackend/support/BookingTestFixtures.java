@@ -0,0 +1,45 @@
+package com.fsk.blogsitebackend.support;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fsk.blogsitebackend.entities.AvailabilitySlot;
+import com.fsk.blogsitebackend.repository.AvailabilitySlotRepository;
+
+// Calendar data for booking and availability tests, placed where real slots never are
+public final class BookingTestFixtures {
+
+    private BookingTestFixtures() {
+    }
+
+    // A random far-future year keeps tests clear of real calendar data and of each other
+    public static int farFutureYear() {
+        return 2200 + ThreadLocalRandom.current().nextInt(500);
+    }
+
+    public static AvailabilitySlot saveFarFutureSlot(AvailabilitySlotRepository availabilitySlotRepository) {
+        LocalDateTime startAt = LocalDateTime.of(farFutureYear(), 1, 1, 10, 0)
+                .plusMinutes(ThreadLocalRandom.current().nextInt(100_000));
+        AvailabilitySlot slot = new AvailabilitySlot();
+        slot.setStartAt(startAt);
+        slot.setEndAt(startAt.plusMinutes(30));
+        slot.setPrice(new BigDecimal("100.00"));
+        return availabilitySlotRepository.save(slot);
+    }
+
+    // Bookings reference their slot, so they go first
+    public static void deleteSlotWithBookings(JdbcTemplate jdbcTemplate, UUID slotId) {
+        jdbcTemplate.update("DELETE FROM bookings WHERE availability_slot_id = ?", slotId);
+        jdbcTemplate.update("DELETE FROM availability_slots WHERE id = ?", slotId);
+    }
+
+    public static void deleteSlotsStartingBetween(JdbcTemplate jdbcTemplate, LocalDateTime from, LocalDateTime to) {
+        jdbcTemplate.update("DELETE FROM bookings WHERE availability_slot_id IN "
+                + "(SELECT id FROM availability_slots WHERE start_at >= ? AND start_at < ?)", from, to);
+        jdbcTemplate.update("DELETE FROM availability_slots WHERE start_at >= ? AND start_at < ?", from, to);
+    }
+}
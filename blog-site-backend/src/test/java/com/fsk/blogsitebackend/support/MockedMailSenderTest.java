@@ -0,0 +1,22 @@
+package com.fsk.blogsitebackend.support;
+
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+
+// Base for tests whose flows send email: the mock is reset after every test, so send counts stay per test
+public abstract class MockedMailSenderTest {
+
+    @MockitoBean
+    protected JavaMailSender mailSender;
+
+    @BeforeEach
+    void stubMimeMessages() {
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+    }
+}
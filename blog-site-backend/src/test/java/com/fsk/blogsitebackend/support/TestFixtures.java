@@ -0,0 +1,46 @@
+package com.fsk.blogsitebackend.support;
+
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import com.fsk.blogsitebackend.entities.User;
+import com.fsk.blogsitebackend.repository.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Seeding and measuring helpers shared by the tests that run against the database
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    // Keeps usernames, emails and slugs from colliding with rows left by other tests
+    public static String uniqueSuffix() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    public static User saveUser(UserRepository userRepository, String username, String firstName, String lastName) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("secret");
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setEnabled(true);
+        return userRepository.save(user);
+    }
+
+    public static User saveUser(UserRepository userRepository, String username) {
+        return saveUser(userRepository, username, null, null);
+    }
+
+    // Needs spring.jpa.properties.hibernate.generate_statistics=true on the test
+    public static long countQueries(EntityManagerFactory entityManagerFactory, Runnable action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.run();
+        return statistics.getPrepareStatementCount();
+    }
+}
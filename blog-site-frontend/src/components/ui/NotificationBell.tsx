@@ -8,6 +8,8 @@ import type { Notification, CurrentUser } from '../../types';
 
 const NotificationBell = () => {
     const [notifications, setNotifications] = useState<Notification[]>([]);
+    const [nextCursor, setNextCursor] = useState<string | null>(null);
+    const [isLoadingMore, setIsLoadingMore] = useState(false);
     const [unreadCount, setUnreadCount] = useState(0);
     const [isOpen, setIsOpen] = useState(false);
     const [currentUser, setCurrentUser] = useState<CurrentUser | null>(null);
@@ -17,9 +19,15 @@ const NotificationBell = () => {
         const user = getCurrentUser();
         setCurrentUser(user);
 
-        if (user) {
-            fetchNotifications(user.id);
-        }
+        if (!user) return;
+        fetchNotifications(user.id);
+
+        const stream = NotificationService.openStream(
+            notification => setNotifications(prev => [notification, ...prev]),
+            setUnreadCount,
+            () => fetchNotifications(user.id)
+        );
+        return () => stream?.close();
     }, []);
 
     useEffect(() => {
@@ -35,17 +43,36 @@ const NotificationBell = () => {
 
     const fetchNotifications = async (userId: string) => {
         try {
-            const [notifs, count] = await Promise.all([
+            const [page, count] = await Promise.all([
                 NotificationService.getNotifications(userId),
                 NotificationService.getUnreadCount(userId)
             ]);
-            setNotifications(notifs);
+            setNotifications(page.content);
+            setNextCursor(page.nextCursor);
             setUnreadCount(count);
         } catch (error) {
             console.error('Failed to fetch notifications', error);
         }
     };
 
+    const handleLoadMore = async () => {
+        if (!currentUser || !nextCursor) return;
+        setIsLoadingMore(true);
+        try {
+            const page = await NotificationService.getNotifications(currentUser.id, nextCursor);
+            // A pushed notification may already be in the list
+            setNotifications(prev => [
+                ...prev,
+                ...page.content.filter(n => !prev.some(existing => existing.id === n.id))
+            ]);
+            setNextCursor(page.nextCursor);
+        } catch (error) {
+            console.error('Failed to load more notifications', error);
+        } finally {
+            setIsLoadingMore(false);
+        }
+    };
+
     const handleMarkAsRead = async (notificationId: string) => {
         if (!currentUser) return;
         try {
@@ -161,6 +188,15 @@ const NotificationBell = () => {
                                 </div>
                             ))
                         )}
+                        {nextCursor && (
+                            <button
+                                onClick={handleLoadMore}
+                                disabled={isLoadingMore}
+                                className="w-full p-3 text-xs text-pastel-blue hover:text-blue-400 font-bold disabled:opacity-50"
+                            >
+                                {isLoadingMore ? 'Yükleniyor...' : 'Daha fazla yükle'}
+                            </button>
+                        )}
                     </div>
                 </div>
             )}
@@ -145,9 +145,16 @@ export const PostService = {
 // Notification types
 import type { Notification, CurrentUser, AboutData, Education, Experience, Reference, Tag } from '../types';
 
+export interface NotificationPage {
+    content: Notification[];
+    nextCursor: string | null;
+}
+
 export const NotificationService = {
-    getNotifications: async (userId: string): Promise<Notification[]> => {
-        const response = await api.get<GenericResponse<Notification[]>>('/notifications', {
+    // Keyset-paged inbox, newest first: omit the cursor for the first page, then pass nextCursor
+    getNotifications: async (userId: string, cursor?: string): Promise<NotificationPage> => {
+        const response = await api.get<GenericResponse<NotificationPage>>('/notifications', {
+            params: cursor ? { cursor } : undefined,
             headers: { 'X-User-Id': userId }
         });
         return response.data.data;
@@ -170,6 +177,58 @@ export const NotificationService = {
         await api.put('/notifications/read-all', null, {
             headers: { 'X-User-Id': userId }
         });
+    },
+
+    // Server-Sent Events push. EventSource cannot send headers and the access token must stay out of URLs, so
+    // every connection is opened with a one-time ticket. The browser's own retry would reuse a spent ticket, so
+    // reconnects are done here with a fresh one.
+    // Events are not replayed across reconnects, so onReconnect should refetch whatever the client shows.
+    openStream: (
+        onNotification: (notification: Notification) => void,
+        onUnreadCount: (count: number) => void,
+        onReconnect?: () => void
+    ): { close: () => void } | null => {
+        if (!getToken()) return null;
+        let source: EventSource | null = null;
+        let retryTimer: ReturnType<typeof setTimeout> | undefined;
+        let closed = false;
+        let connected = false;
+
+        const scheduleReconnect = () => {
+            if (!closed) retryTimer = setTimeout(connect, 3000);
+        };
+        const connect = async () => {
+            let ticket: string;
+            try {
+                const response = await api.post<GenericResponse<string>>('/notifications/stream-ticket');
+                ticket = response.data.data;
+            } catch {
+                scheduleReconnect();
+                return;
+            }
+            if (closed) return;
+            const current = new EventSource(`${API_URL}/notifications/stream?ticket=${encodeURIComponent(ticket)}`);
+            source = current;
+            current.addEventListener('notification', event => onNotification(JSON.parse((event as MessageEvent).data)));
+            current.addEventListener('unread-count', event => onUnreadCount(Number((event as MessageEvent).data)));
+            current.addEventListener('open', () => {
+                if (connected) onReconnect?.();
+                connected = true;
+            });
+            current.addEventListener('error', () => {
+                current.close();
+                scheduleReconnect();
+            });
+        };
+
+        connect();
+        return {
+            close: () => {
+                closed = true;
+                clearTimeout(retryTimer);
+                source?.close();
+            }
+        };
     }
 };
 
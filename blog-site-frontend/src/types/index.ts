@@ -125,7 +125,6 @@ export interface CurrentUser {
     fullName: string;
     avatarUrl?: string;
     role: 'ADMIN' | 'AUTHOR' | 'USER';
-    unreadNotificationCount: number;
 }
 
 export interface SocialMedia {